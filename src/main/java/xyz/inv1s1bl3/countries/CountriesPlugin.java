@@ -15,13 +15,17 @@ import xyz.inv1s1bl3.countries.core.territory.TerritoryManager;
 import xyz.inv1s1bl3.countries.core.economy.EconomyManager;
 import xyz.inv1s1bl3.countries.core.diplomacy.DiplomacyManager;
 import xyz.inv1s1bl3.countries.core.law.LawSystem;
+import xyz.inv1s1bl3.countries.core.session.SessionManager;
 import xyz.inv1s1bl3.countries.commands.TerritoryCommand;
 import xyz.inv1s1bl3.countries.commands.LawCommand;
 import xyz.inv1s1bl3.countries.gui.GUIListener;
 import xyz.inv1s1bl3.countries.gui.TerritoryGUIListener;
 import xyz.inv1s1bl3.countries.listeners.ChunkListener;
+import xyz.inv1s1bl3.countries.listeners.CombatListener;
+import xyz.inv1s1bl3.countries.listeners.EnvironmentListener;
 import xyz.inv1s1bl3.countries.listeners.PlayerListener;
-import xyz.inv1s1bl3.countries.listeners.SelectionToolListener;
+import xyz.inv1s1bl3.countries.map.MapExporter;
+import xyz.inv1s1bl3.countries.map.TileRenderer;
 import xyz.inv1s1bl3.countries.storage.DataManager;
 import xyz.inv1s1bl3.countries.utils.PerformanceMonitor;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
@@ -44,6 +48,7 @@ public final class CountriesPlugin extends JavaPlugin {
     private EconomyManager economyManager;
     private DiplomacyManager diplomacyManager;
     private LawSystem lawSystem;
+    private SessionManager sessionManager;
     
     // API
     private CountriesAPI api;
@@ -51,11 +56,14 @@ public final class CountriesPlugin extends JavaPlugin {
     // GUI Listeners
     private GUIListener guiListener;
     private TerritoryGUIListener territoryGUIListener;
-    private SelectionToolListener selectionToolListener;
     
     // Performance monitoring
     private PerformanceMonitor performanceMonitor;
     
+    // Map export and tile rendering
+    private MapExporter mapExporter;
+    private TileRenderer tileRenderer;
+    
     // Vault economy
     private Economy vaultEconomy;
     
@@ -120,6 +128,20 @@ public final class CountriesPlugin extends JavaPlugin {
                 autoSaveTask = null;
             }
             
+            // Stop chunk activity tracking (writes final scores)
+            if (territoryManager != null) {
+                territoryManager.getActivityHeatmap().stop();
+            }
+            
+            // Stop map export task
+            if (mapExporter != null) {
+                mapExporter.stop();
+            }
+            
+            if (tileRenderer != null) {
+                tileRenderer.stop();
+            }
+            
             // Save all data
             if (dataManager != null) {
                 dataManager.saveAll();
@@ -139,7 +161,7 @@ public final class CountriesPlugin extends JavaPlugin {
             }
             
             if (lawSystem != null) {
-                // Law system doesn't need explicit shutdown currently
+                lawSystem.shutdown();
             }
             
             getLogger().info("Countries plugin disabled successfully!");
@@ -199,6 +221,7 @@ public final class CountriesPlugin extends JavaPlugin {
         economyManager = new EconomyManager(this);
         diplomacyManager = new DiplomacyManager(this);
         lawSystem = new LawSystem(this);
+        sessionManager = new SessionManager(this);
         
         // Load data
         countryManager.loadCountries();
@@ -206,6 +229,7 @@ public final class CountriesPlugin extends JavaPlugin {
         economyManager.initialize();
         diplomacyManager.initialize();
         lawSystem.initialize();
+        sessionManager.initialize();
     }
     
     /**
@@ -230,10 +254,8 @@ public final class CountriesPlugin extends JavaPlugin {
         
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
         getServer().getPluginManager().registerEvents(new ChunkListener(this), this);
-        
-        // Register selection tool listener
-        selectionToolListener = new SelectionToolListener(this);
-        getServer().getPluginManager().registerEvents(selectionToolListener, this);
+        getServer().getPluginManager().registerEvents(new EnvironmentListener(this), this);
+        getServer().getPluginManager().registerEvents(new CombatListener(this), this);
     }
     
     /**
@@ -285,6 +307,16 @@ public final class CountriesPlugin extends JavaPlugin {
         performanceMonitor = new PerformanceMonitor(this);
         performanceMonitor.start();
         
+        // Start chunk activity tracking
+        territoryManager.getActivityHeatmap().start();
+        
+        // Initialize map exporter
+        mapExporter = new MapExporter(this);
+        mapExporter.start();
+        
+        tileRenderer = new TileRenderer(this);
+        tileRenderer.start();
+        
         getLogger().info("Advanced features initialized successfully!");
     }
     
@@ -304,6 +336,15 @@ public final class CountriesPlugin extends JavaPlugin {
             economyManager.initialize();
             diplomacyManager.initialize();
             lawSystem.initialize();
+            sessionManager.refreshAll();
+            
+            if (mapExporter != null) {
+                mapExporter.requestFullExport();
+            }
+            
+            if (tileRenderer != null) {
+                tileRenderer.requestFullRender();
+            }
             
         } catch (Exception e) {
             getLogger().log(Level.SEVERE, "Error occurred while reloading plugin!", e);
@@ -345,6 +386,10 @@ public final class CountriesPlugin extends JavaPlugin {
         return lawSystem;
     }
     
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+    
     public CountriesAPI getAPI() {
         return api;
     }
@@ -361,6 +406,14 @@ public final class CountriesPlugin extends JavaPlugin {
         return performanceMonitor;
     }
     
+    public MapExporter getMapExporter() {
+        return mapExporter;
+    }
+    
+    public TileRenderer getTileRenderer() {
+        return tileRenderer;
+    }
+    
     public Economy getVaultEconomy() {
         return vaultEconomy;
     }
@@ -3,7 +3,12 @@ package xyz.inv1s1bl3.countries.api;
 import org.bukkit.entity.Player;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
 import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.territory.ChunkCoordinate;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -85,6 +90,42 @@ public class CountriesAPI {
         return country != null ? country.getBalance() : 0.0;
     }
     
+    /**
+     * Get the estimated number of distinct players who ever visited a territory
+     */
+    public long getTerritoryUniqueVisitors(String territoryName) {
+        Territory territory = plugin.getTerritoryManager().getTerritory(territoryName);
+        return territory != null ? territory.getVisitorAnalytics().getUniqueVisitors() : 0;
+    }
+    
+    /**
+     * Get the estimated number of distinct players who visited a territory today (UTC)
+     */
+    public long getTerritoryDailyVisitors(String territoryName) {
+        Territory territory = plugin.getTerritoryManager().getTerritory(territoryName);
+        return territory != null ? territory.getVisitorAnalytics().getDailyVisitors() : 0;
+    }
+    
+    /**
+     * Get the estimated number of distinct players who visited a territory in the last 7 days
+     */
+    public long getTerritoryWeeklyVisitors(String territoryName) {
+        Territory territory = plugin.getTerritoryManager().getTerritory(territoryName);
+        return territory != null ? territory.getVisitorAnalytics().getWeeklyVisitors() : 0;
+    }
+    
+    /**
+     * Get the most active chunks of a territory with their decayed activity scores.
+     * Must be called from the main thread.
+     */
+    public List<Map.Entry<ChunkCoordinate, Double>> getTopActiveChunks(String territoryName, int limit) {
+        Territory territory = plugin.getTerritoryManager().getTerritory(territoryName);
+        if (territory == null) {
+            return Collections.emptyList();
+        }
+        return plugin.getTerritoryManager().getActivityHeatmap().getTopChunks(territory, limit);
+    }
+    
     /**
      * Check if plugin is properly loaded and functional
      */
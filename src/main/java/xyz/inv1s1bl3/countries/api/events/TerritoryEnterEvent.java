@@ -0,0 +1,46 @@
+package xyz.inv1s1bl3.countries.api.events;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
+
+/**
+ * Called when a player walks into a territory from the wilderness or another territory.
+ */
+public class TerritoryEnterEvent extends PlayerEvent {
+    
+    private static final HandlerList HANDLERS = new HandlerList();
+    
+    private final Territory territory;
+    private final Territory previous;
+    
+    public TerritoryEnterEvent(Player player, Territory territory, Territory previous) {
+        super(player);
+        this.territory = territory;
+        this.previous = previous;
+    }
+    
+    /**
+     * Get the territory that was entered
+     */
+    public Territory getTerritory() {
+        return territory;
+    }
+    
+    /**
+     * Get the territory the player came from, or null if they came from the wilderness
+     */
+    public Territory getPrevious() {
+        return previous;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,46 @@
+package xyz.inv1s1bl3.countries.api.events;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
+
+/**
+ * Called when a player walks out of a territory into the wilderness or another territory.
+ */
+public class TerritoryLeaveEvent extends PlayerEvent {
+    
+    private static final HandlerList HANDLERS = new HandlerList();
+    
+    private final Territory territory;
+    private final Territory next;
+    
+    public TerritoryLeaveEvent(Player player, Territory territory, Territory next) {
+        super(player);
+        this.territory = territory;
+        this.next = next;
+    }
+    
+    /**
+     * Get the territory that was left
+     */
+    public Territory getTerritory() {
+        return territory;
+    }
+    
+    /**
+     * Get the territory the player moved into, or null if they moved into the wilderness
+     */
+    public Territory getNext() {
+        return next;
+    }
+    
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+    
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -8,6 +8,7 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
 import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 import java.util.*;
@@ -25,6 +26,12 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
     
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        // Moderators may hold only the bypass node; handleBypass checks it itself
+        if (args.length > 0 && args[0].equalsIgnoreCase("bypass")) {
+            handleBypass(sender);
+            return true;
+        }
+        
         if (!sender.hasPermission("countries.admin.*")) {
             ChatUtils.sendPrefixedConfigMessage(sender, "general.no-permission");
             return true;
@@ -43,6 +50,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             case "stats" -> handleStats(sender);
             case "force" -> handleForce(sender, args);
             case "backup" -> handleBackup(sender);
+            case "bypass" -> handleBypass(sender);
             case "gui" -> handleGUI(sender, args);
             case "help" -> sendHelp(sender);
             default -> {
@@ -193,6 +201,32 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    private void handleBypass(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            ChatUtils.sendError(sender, "Only players can bypass territory protection!");
+            return;
+        }
+        
+        // Re-resolve the permission on every toggle so revoked admins lose bypass
+        plugin.getSessionManager().refreshPermissions(player);
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session == null) {
+            return;
+        }
+        
+        if (!session.isBypassToggled() && !player.hasPermission("countries.admin.bypass")) {
+            ChatUtils.sendPrefixedConfigMessage(sender, "general.no-permission");
+            return;
+        }
+        
+        session.setBypassToggled(!session.isBypassToggled());
+        if (session.isBypassToggled()) {
+            ChatUtils.sendSuccess(player, "Territory protection bypass enabled. Bypassed actions are logged.");
+        } else {
+            ChatUtils.sendSuccess(player, "Territory protection bypass disabled.");
+        }
+    }
+    
     private void handleBackup(CommandSender sender) {
         ChatUtils.sendInfo(sender, "Starting data backup...");
         plugin.getDataManager().saveAll();
@@ -233,6 +267,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(ChatUtils.colorize("&e/cadmin stats &7- View plugin statistics"));
         sender.sendMessage(ChatUtils.colorize("&e/cadmin force <action> <target> &7- Force admin actions"));
         sender.sendMessage(ChatUtils.colorize("&e/cadmin backup &7- Force data backup"));
+        sender.sendMessage(ChatUtils.colorize("&e/cadmin bypass &7- Toggle territory protection bypass"));
         sender.sendMessage(ChatUtils.colorize("&e/cadmin gui <type> &7- Open admin GUIs"));
         sender.sendMessage(ChatUtils.colorize("&8&l━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
     }
@@ -242,11 +277,15 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
         
         if (!sender.hasPermission("countries.admin.*")) {
+            if (args.length == 1 && "bypass".startsWith(args[0].toLowerCase())
+                    && sender.hasPermission("countries.admin.bypass")) {
+                completions.add("bypass");
+            }
             return completions;
         }
         
         if (args.length == 1) {
-            String[] subCommands = {"reload", "debug", "stats", "force", "backup", "gui", "help"};
+            String[] subCommands = {"reload", "debug", "stats", "force", "backup", "bypass", "gui", "help"};
             for (String subCommand : subCommands) {
                 if (subCommand.toLowerCase().startsWith(args[0].toLowerCase())) {
                     completions.add(subCommand);
@@ -1,16 +1,20 @@
 package xyz.inv1s1bl3.countries.commands;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.country.Citizen;
 import xyz.inv1s1bl3.countries.core.country.Country;
 import xyz.inv1s1bl3.countries.core.law.Crime;
 import xyz.inv1s1bl3.countries.core.law.CrimeType;
+import xyz.inv1s1bl3.countries.core.law.JailRegion;
 import xyz.inv1s1bl3.countries.core.law.Law;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 import java.util.*;
@@ -45,6 +49,7 @@ public class LawCommand implements CommandExecutor, TabCompleter {
             case "bounty" -> handleBounty(sender, args);
             case "crimes" -> handleCrimes(sender, args);
             case "jail" -> handleJailStatus(sender, args);
+            case "setjail" -> handleSetJail(sender);
             case "help" -> sendHelp(sender);
             default -> {
                 ChatUtils.sendError(sender, "Unknown subcommand. Use /law help for available commands.");
@@ -408,6 +413,64 @@ public class LawCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    private void handleSetJail(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            ChatUtils.sendError(sender, "Only players can set a jail!");
+            return;
+        }
+        
+        Country country = plugin.getCountryManager().getPlayerCountry(player);
+        if (country == null) {
+            ChatUtils.sendPrefixedConfigMessage(sender, "country.not-member");
+            return;
+        }
+        
+        Citizen citizen = country.getCitizen(player.getUniqueId());
+        if (citizen == null || !citizen.getRole().canKick()) {
+            ChatUtils.sendError(sender, "You don't have permission to set your country's jail!");
+            return;
+        }
+        
+        Location[] corners = plugin.getTerritoryManager().getPlayerSelection(player);
+        if (corners[0] == null || corners[1] == null) {
+            ChatUtils.sendError(sender, "Select the jail with the selection tool first!");
+            return;
+        }
+        
+        if (!corners[0].getWorld().equals(corners[1].getWorld())) {
+            ChatUtils.sendError(sender, "Both corners must be in the same world!");
+            return;
+        }
+        
+        // Prisoners need a floor and room to stand and jump
+        JailRegion jail = new JailRegion(corners[0], corners[1]);
+        if (jail.getHeight() < JailRegion.MIN_HEIGHT) {
+            ChatUtils.sendError(sender, "The jail must be at least " + JailRegion.MIN_HEIGHT
+                    + " blocks tall! Select its floor and its ceiling.");
+            return;
+        }
+        
+        // Every chunk the jail covers has to be the country's own territory
+        for (int chunkX = jail.getMinX() >> 4; chunkX <= jail.getMaxX() >> 4; chunkX++) {
+            for (int chunkZ = jail.getMinZ() >> 4; chunkZ <= jail.getMaxZ() >> 4; chunkZ++) {
+                Territory territory = plugin.getTerritoryManager().getTerritoryAt(jail.getWorldName(), chunkX, chunkZ);
+                if (territory == null || !territory.getCountryName().equalsIgnoreCase(country.getName())) {
+                    ChatUtils.sendError(sender, "The jail must be entirely inside your country's territory!");
+                    return;
+                }
+            }
+        }
+        
+        Location spawn = jail.getSpawnLocation();
+        if (spawn == null || !jail.contains(spawn)) {
+            ChatUtils.sendError(sender, "There is no room for prisoners to stand inside the jail!");
+            return;
+        }
+        
+        plugin.getLawSystem().setJail(country.getName(), jail);
+        ChatUtils.sendSuccess(sender, "Jail set (" + jail.getVolume() + " blocks). Prisoners are confined to it.");
+    }
+    
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(ChatUtils.colorize("&8&l━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
         sender.sendMessage(ChatUtils.colorize("&6&lLaw & Order Commands"));
@@ -421,6 +484,7 @@ public class LawCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(ChatUtils.colorize("&e/law bounty <set|claim|check> <player> [amount] &7- Manage bounties"));
         sender.sendMessage(ChatUtils.colorize("&e/law crimes [player] &7- View crime history"));
         sender.sendMessage(ChatUtils.colorize("&e/law jail [player] &7- Check jail status"));
+        sender.sendMessage(ChatUtils.colorize("&e/law setjail &7- Set the jail to your selection"));
         sender.sendMessage(ChatUtils.colorize("&8&l━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
     }
     
@@ -429,7 +493,7 @@ public class LawCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
         
         if (args.length == 1) {
-            String[] subCommands = {"create", "list", "report", "arrest", "release", "fine", "bounty", "crimes", "jail", "help"};
+            String[] subCommands = {"create", "list", "report", "arrest", "release", "fine", "bounty", "crimes", "jail", "setjail", "help"};
             for (String subCommand : subCommands) {
                 if (subCommand.toLowerCase().startsWith(args[0].toLowerCase())) {
                     completions.add(subCommand);
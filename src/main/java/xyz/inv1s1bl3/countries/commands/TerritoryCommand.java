@@ -10,6 +10,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
 import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.territory.ActivityHeatmap;
+import xyz.inv1s1bl3.countries.core.territory.ChunkCoordinate;
 import xyz.inv1s1bl3.countries.core.territory.Territory;
 import xyz.inv1s1bl3.countries.core.territory.TerritoryType;
 import xyz.inv1s1bl3.countries.core.territory.TerritoryFlag;
@@ -55,6 +57,8 @@ public class TerritoryCommand implements CommandExecutor, TabCompleter {
             case "tax" -> handleTax(sender, args);
             case "gui" -> handleGUI(sender, args);
             case "visualize", "borders" -> handleVisualize(sender, args);
+            case "map" -> handleMap(sender, args);
+            case "activity" -> handleActivity(sender, args);
             case "help" -> sendHelp(sender);
             default -> {
                 ChatUtils.sendError(sender, "Unknown subcommand. Use /territory help for available commands.");
@@ -326,6 +330,7 @@ public class TerritoryCommand implements CommandExecutor, TabCompleter {
         
         TerritoryType newType = TerritoryType.fromString(typeName);
         territory.setType(newType);
+        plugin.getTerritoryManager().markTerritoryDirty(territory);
         
         ChatUtils.sendSuccess(sender, "Territory '" + territoryName + "' type changed to " + newType.getDisplayName() + "!");
     }
@@ -629,6 +634,66 @@ public class TerritoryCommand implements CommandExecutor, TabCompleter {
         plugin.getTerritoryGUIListener().getTerritoryGUI().openTerritoryManagement(player);
     }
     
+    private void handleActivity(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("countries.territory.info")) {
+            ChatUtils.sendPrefixedConfigMessage(sender, "general.no-permission");
+            return;
+        }
+        
+        ActivityHeatmap heatmap = plugin.getTerritoryManager().getActivityHeatmap();
+        if (!heatmap.isEnabled()) {
+            ChatUtils.sendError(sender, "Chunk activity tracking is disabled!");
+            return;
+        }
+        
+        Territory territory;
+        if (args.length >= 2) {
+            territory = plugin.getTerritoryManager().getTerritory(args[1]);
+            if (territory == null) {
+                ChatUtils.sendError(sender, "Territory '" + args[1] + "' not found!");
+                return;
+            }
+        } else if (sender instanceof Player player) {
+            territory = plugin.getTerritoryManager().getTerritoryAt(player.getLocation());
+            if (territory == null) {
+                ChatUtils.sendError(sender, "You are not in a territory! Usage: /territory activity [territory]");
+                return;
+            }
+        } else {
+            ChatUtils.sendError(sender, "Usage: /territory activity <territory>");
+            return;
+        }
+        
+        List<Map.Entry<ChunkCoordinate, Double>> topChunks = heatmap.getTopChunks(territory, 10);
+        
+        sender.sendMessage(ChatUtils.colorize("&6&lMost active chunks in " + territory.getName()));
+        if (topChunks.isEmpty()) {
+            sender.sendMessage(ChatUtils.colorize("&7No recorded activity."));
+            return;
+        }
+        
+        int rank = 1;
+        for (Map.Entry<ChunkCoordinate, Double> entry : topChunks) {
+            ChunkCoordinate chunk = entry.getKey();
+            sender.sendMessage(ChatUtils.colorize(String.format("&e%d. &7Chunk (%d, %d) &8- &a%.1f",
+                    rank++, chunk.getX(), chunk.getZ(), entry.getValue())));
+        }
+    }
+    
+    private void handleMap(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            ChatUtils.sendError(sender, "Only players can view the territory map!");
+            return;
+        }
+        
+        if (!sender.hasPermission("countries.territory.info")) {
+            ChatUtils.sendPrefixedConfigMessage(sender, "general.no-permission");
+            return;
+        }
+        
+        plugin.getTerritoryManager().getMapRenderer().sendMap(player);
+    }
+    
     private void handleVisualize(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
             ChatUtils.sendError(sender, "Only players can visualize borders!");
@@ -679,6 +744,8 @@ public class TerritoryCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(ChatUtils.colorize("&e/territory tax <territory> <rate> <enable|disable> &7- Set territory tax"));
         sender.sendMessage(ChatUtils.colorize("&e/territory gui &7- Open territory management GUI"));
         sender.sendMessage(ChatUtils.colorize("&e/territory visualize [territory] &7- Show territory borders"));
+        sender.sendMessage(ChatUtils.colorize("&e/territory map &7- Show a map of nearby claims"));
+        sender.sendMessage(ChatUtils.colorize("&e/territory activity [territory] &7- Show the most active chunks"));
         sender.sendMessage(ChatUtils.colorize("&8&l━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
     }
     
@@ -689,7 +756,7 @@ public class TerritoryCommand implements CommandExecutor, TabCompleter {
         if (args.length == 1) {
             // First argument - subcommands
             String[] subCommands = {"claim", "unclaim", "info", "list", "delete", "type", "access", 
-                                   "flag", "trust", "untrust", "subarea", "rent", "tax", "gui", "visualize", "help"};
+                                   "flag", "trust", "untrust", "subarea", "rent", "tax", "gui", "visualize", "map", "activity", "help"};
             for (String subCommand : subCommands) {
                 if (subCommand.toLowerCase().startsWith(args[0].toLowerCase())) {
                     completions.add(subCommand);
@@ -104,6 +104,8 @@ public class CountryManager {
             // Store country
             countries.put(name.toLowerCase(), country);
             playerCountries.put(ownerUUID, name.toLowerCase());
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            plugin.getSessionManager().refreshCountry(ownerUUID);
             
             // Save to storage
             saveCountry(country);
@@ -145,6 +147,10 @@ public class CountryManager {
             
             // Remove country
             countries.remove(name.toLowerCase());
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            for (Citizen citizen : country.getCitizens()) {
+                plugin.getSessionManager().refreshCountry(citizen.getPlayerUUID());
+            }
             
             // Delete from storage
             deleteCountryFromStorage(country);
@@ -221,6 +227,8 @@ public class CountryManager {
         // Add citizen
         if (country.addCitizen(playerUUID, playerName, CitizenRole.CITIZEN)) {
             playerCountries.put(playerUUID, countryName.toLowerCase());
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            plugin.getSessionManager().refreshCountry(playerUUID);
             saveCountry(country);
             return true;
         }
@@ -245,6 +253,8 @@ public class CountryManager {
         // Remove citizen
         if (country.removeCitizen(playerUUID)) {
             playerCountries.remove(playerUUID);
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            plugin.getSessionManager().refreshCountry(playerUUID);
             saveCountry(country);
             return true;
         }
@@ -325,6 +335,8 @@ public class CountryManager {
         
         // Promote
         if (country.promoteCitizen(targetUUID)) {
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            plugin.getSessionManager().refreshCountry(targetUUID);
             saveCountry(country);
             return true;
         }
@@ -355,6 +367,8 @@ public class CountryManager {
         
         // Demote
         if (country.demoteCitizen(targetUUID)) {
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            plugin.getSessionManager().refreshCountry(targetUUID);
             saveCountry(country);
             return true;
         }
@@ -391,6 +405,8 @@ public class CountryManager {
         // Kick citizen
         if (country.removeCitizen(targetUUID)) {
             playerCountries.remove(targetUUID);
+            plugin.getTerritoryManager().invalidatePermissionCache();
+            plugin.getSessionManager().refreshCountry(targetUUID);
             saveCountry(country);
             return true;
         }
@@ -22,12 +22,14 @@ public class DiplomacyManager {
     private final Map<String, DiplomaticRelation> relations; // Relation key -> Relation
     private final Map<String, TradeAgreement> tradeAgreements; // Agreement key -> Agreement
     private final Map<String, Set<UUID>> pendingProposals; // Country -> Set of proposer UUIDs
+    private final RelationMatrix relationMatrix; // Country id pair -> Relation type
     
     public DiplomacyManager(CountriesPlugin plugin) {
         this.plugin = plugin;
         this.relations = new ConcurrentHashMap<>();
         this.tradeAgreements = new ConcurrentHashMap<>();
         this.pendingProposals = new ConcurrentHashMap<>();
+        this.relationMatrix = new RelationMatrix();
     }
     
     /**
@@ -37,6 +39,13 @@ public class DiplomacyManager {
         loadRelations();
         loadTradeAgreements();
         
+        // Country ids stay stable across reloads so sessions keep theirs,
+        // but relations dropped since the last load must not survive
+        relationMatrix.clearRelations();
+        for (DiplomaticRelation relation : relations.values()) {
+            relationMatrix.set(relation.getCountry1(), relation.getCountry2(), relation.getRelationType());
+        }
+        
         plugin.debug("Diplomacy system initialized");
     }
     
@@ -147,6 +156,8 @@ public class DiplomacyManager {
             String relationKey = createRelationKey(proposerCountry, accepterCountry);
             DiplomaticRelation relation = new DiplomaticRelation(proposerCountry, accepterCountry, RelationType.ALLIED);
             relations.put(relationKey, relation);
+            relationMatrix.set(relation.getCountry1(), relation.getCountry2(), relation.getRelationType());
+            plugin.getTerritoryManager().invalidatePermissionCache();
             
             // Remove pending proposal
             proposals.clear();
@@ -199,6 +210,8 @@ public class DiplomacyManager {
             DiplomaticRelation relation = new DiplomaticRelation(declarerCountry, targetCountry, RelationType.AT_WAR);
             relation.setWarReason(reason != null ? reason : "No reason given");
             relations.put(relationKey, relation);
+            relationMatrix.set(relation.getCountry1(), relation.getCountry2(), relation.getRelationType());
+            plugin.getTerritoryManager().invalidatePermissionCache();
             
             // Charge war cost
             if (warCost > 0) {
@@ -250,6 +263,8 @@ public class DiplomacyManager {
             }
             
             relations.put(relationKey, relation);
+            relationMatrix.set(relation.getCountry1(), relation.getCountry2(), relation.getRelationType());
+            plugin.getTerritoryManager().invalidatePermissionCache();
             
             // Notify both countries
             notifyCountryMembers(setter, "Relations with " + targetCountry + " set to neutral.");
@@ -315,6 +330,20 @@ public class DiplomacyManager {
         }
     }
     
+    /**
+     * Get the dense id of a country used by the relation matrix
+     */
+    public int getCountryId(String countryName) {
+        return relationMatrix.getId(countryName);
+    }
+    
+    /**
+     * Get the relation type between two country ids, or null if there is none
+     */
+    public RelationType getRelationType(int countryId1, int countryId2) {
+        return relationMatrix.get(countryId1, countryId2);
+    }
+    
     /**
      * Get diplomatic relation between two countries
      */
@@ -0,0 +1,106 @@
+package xyz.inv1s1bl3.countries.core.diplomacy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense country x country table of relation types for hot-path lookups.
+ * Countries get a small integer id on first use; the table is a flat byte
+ * array holding RelationType ordinal + 1 (0 = no relation) and is replaced
+ * wholesale when it grows, so readers never lock.
+ */
+public class RelationMatrix {
+
+    private static final RelationType[] TYPES = RelationType.values();
+
+    private final Map<String, Integer> countryIds;
+    private volatile Table table;
+    private int nextId;
+
+    public RelationMatrix() {
+        this.countryIds = new ConcurrentHashMap<>();
+        this.table = new Table(16);
+    }
+
+    /**
+     * Get the id of a country, assigning one if needed
+     */
+    public int getId(String countryName) {
+        Integer id = countryIds.get(countryName.toLowerCase());
+        return id != null ? id : assignId(countryName.toLowerCase());
+    }
+
+    /**
+     * Get the relation between two country ids, or null if none or either id is negative
+     */
+    public RelationType get(int country1, int country2) {
+        if (country1 < 0 || country2 < 0) {
+            return null;
+        }
+
+        Table current = table;
+        if (country1 >= current.capacity || country2 >= current.capacity) {
+            return null;
+        }
+
+        int cell = current.cells[country1 * current.capacity + country2];
+        return cell != 0 ? TYPES[cell - 1] : null;
+    }
+
+    /**
+     * Record the relation between two countries in both directions
+     */
+    public synchronized void set(String country1, String country2, RelationType type) {
+        int id1 = getId(country1);
+        int id2 = getId(country2);
+
+        Table current = table;
+        byte cell = type != null ? (byte) (type.ordinal() + 1) : 0;
+        current.cells[id1 * current.capacity + id2] = cell;
+        current.cells[id2 * current.capacity + id1] = cell;
+    }
+
+    /**
+     * Remove every relation, keeping the assigned country ids
+     */
+    public synchronized void clearRelations() {
+        table = new Table(table.capacity);
+    }
+
+    private synchronized int assignId(String key) {
+        Integer existing = countryIds.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = nextId++;
+        Table current = table;
+        if (id >= current.capacity) {
+            table = current.grow(current.capacity * 2);
+        }
+        countryIds.put(key, id);
+        return id;
+    }
+
+    /**
+     * Immutable-size square table
+     */
+    private static final class Table {
+
+        private final int capacity;
+        private final byte[] cells;
+
+        private Table(int capacity) {
+            this.capacity = capacity;
+            this.cells = new byte[capacity * capacity];
+        }
+
+        private Table grow(int newCapacity) {
+            Table grown = new Table(newCapacity);
+            for (int row = 0; row < capacity; row++) {
+                System.arraycopy(cells, row * capacity, grown.cells, row * newCapacity, capacity);
+            }
+            return grown;
+        }
+    }
+}
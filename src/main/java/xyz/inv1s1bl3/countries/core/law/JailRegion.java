@@ -0,0 +1,99 @@
+package xyz.inv1s1bl3.countries.core.law;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * A country's jail, an axis-aligned box of blocks.
+ * Held in the sessions of jailed players so confinement is checked with a
+ * few integer comparisons on every block change.
+ */
+public class JailRegion {
+
+    // Floor plus two blocks for a standing prisoner
+    public static final int MIN_HEIGHT = 3;
+
+    private final String worldName;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    public JailRegion(Location corner1, Location corner2) {
+        this.worldName = corner1.getWorld().getName();
+        this.minX = Math.min(corner1.getBlockX(), corner2.getBlockX());
+        this.minY = Math.min(corner1.getBlockY(), corner2.getBlockY());
+        this.minZ = Math.min(corner1.getBlockZ(), corner2.getBlockZ());
+        this.maxX = Math.max(corner1.getBlockX(), corner2.getBlockX());
+        this.maxY = Math.max(corner1.getBlockY(), corner2.getBlockY());
+        this.maxZ = Math.max(corner1.getBlockZ(), corner2.getBlockZ());
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
+
+    public int getHeight() {
+        return maxY - minY + 1;
+    }
+
+    /**
+     * Check if a location is inside the jail
+     */
+    public boolean contains(Location location) {
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ
+                && worldName.equals(location.getWorld().getName());
+    }
+
+    /**
+     * Get where jailed players are put: the first two free blocks above the
+     * centre of the jail floor (the selected corners are usually floor blocks).
+     * Inside the jail for any jail at least {@link #MIN_HEIGHT} blocks tall.
+     */
+    public Location getSpawnLocation() {
+        World world = Bukkit.getWorld(worldName);
+        if (world == null) {
+            return null;
+        }
+
+        int x = (minX + maxX) / 2;
+        int z = (minZ + maxZ) / 2;
+        int y = minY + 1;
+        for (int candidate = minY + 1; candidate < maxY; candidate++) {
+            if (world.getBlockAt(x, candidate, z).isPassable() && world.getBlockAt(x, candidate + 1, z).isPassable()) {
+                y = candidate;
+                break;
+            }
+        }
+        return new Location(world, x + 0.5, y, z + 0.5);
+    }
+
+    /**
+     * Get the number of blocks in the jail
+     */
+    public long getVolume() {
+        return (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+    }
+}
@@ -1,12 +1,15 @@
 package xyz.inv1s1bl3.countries.core.law;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
 import xyz.inv1s1bl3.countries.core.country.Country;
 import xyz.inv1s1bl3.countries.core.country.Citizen;
 import xyz.inv1s1bl3.countries.core.economy.BankAccount;
 import xyz.inv1s1bl3.countries.core.economy.TransactionType;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 import java.util.*;
@@ -23,14 +26,20 @@ public class LawSystem {
     private final Map<Integer, Crime> crimes; // Crime ID -> Crime
     private final Map<UUID, List<Integer>> playerCrimes; // Player UUID -> Crime IDs
     private final Map<UUID, Long> jailedPlayers; // Player UUID -> Release time
+    private final Map<UUID, String> jailCountries; // Player UUID -> Country that jailed them
+    private final Map<String, JailRegion> countryJails; // Country name -> Jail
     private final Map<UUID, Double> bounties; // Player UUID -> Bounty amount
     
+    private BukkitRunnable releaseTask;
+    
     public LawSystem(CountriesPlugin plugin) {
         this.plugin = plugin;
         this.countryLaws = new ConcurrentHashMap<>();
         this.crimes = new ConcurrentHashMap<>();
         this.playerCrimes = new ConcurrentHashMap<>();
         this.jailedPlayers = new ConcurrentHashMap<>();
+        this.jailCountries = new ConcurrentHashMap<>();
+        this.countryJails = new ConcurrentHashMap<>();
         this.bounties = new ConcurrentHashMap<>();
     }
     
@@ -40,10 +49,50 @@ public class LawSystem {
     public void initialize() {
         loadLaws();
         loadCrimes();
+        startReleaseTask();
         
         plugin.debug("Law system initialized");
     }
     
+    /**
+     * Shutdown the law system
+     */
+    public void shutdown() {
+        if (releaseTask != null) {
+            releaseTask.cancel();
+            releaseTask = null;
+        }
+        
+        plugin.debug("Law system shutdown");
+    }
+    
+    /**
+     * Release prisoners as their sentences run out, once a second
+     */
+    private void startReleaseTask() {
+        if (releaseTask != null) {
+            releaseTask.cancel();
+        }
+        
+        releaseTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (jailedPlayers.isEmpty()) {
+                    return;
+                }
+                
+                long now = System.currentTimeMillis();
+                for (Map.Entry<UUID, Long> entry : jailedPlayers.entrySet()) {
+                    if (now >= entry.getValue()) {
+                        release(entry.getKey());
+                    }
+                }
+            }
+        };
+        
+        releaseTask.runTaskTimer(plugin, 20L, 20L);
+    }
+    
     /**
      * Load all laws from storage
      */
@@ -156,6 +205,7 @@ public class LawSystem {
             
             crime.setReleaseDate(releaseTime);
             jailedPlayers.put(criminalUUID, releaseTime);
+            jailCountries.put(criminalUUID, crime.getCountryName().toLowerCase());
             
             // Issue fine
             issueFine(criminalUUID, crime.getFineAmount(), crime.getCountryName());
@@ -168,6 +218,7 @@ public class LawSystem {
                 ChatUtils.sendPrefixedConfigMessage(criminal, "law.arrested", 
                         crime.getCrimeType().getDisplayName());
                 ChatUtils.sendPrefixedConfigMessage(criminal, "law.jail-time", jailMinutes);
+                confine(criminal);
             }
             
             if (officerPlayer != null) {
@@ -223,7 +274,23 @@ public class LawSystem {
             return false;
         }
         
-        jailedPlayers.remove(playerUUID);
+        release(playerUUID);
+        return true;
+    }
+    
+    /**
+     * Drop a prisoner's sentence and lift their confinement
+     */
+    private void release(UUID playerUUID) {
+        if (jailedPlayers.remove(playerUUID) == null) {
+            return;
+        }
+        jailCountries.remove(playerUUID);
+        
+        PlayerSession session = plugin.getSessionManager().getSession(playerUUID);
+        if (session != null) {
+            session.setJail(null);
+        }
         
         Player player = Bukkit.getPlayer(playerUUID);
         if (player != null) {
@@ -231,7 +298,56 @@ public class LawSystem {
         }
         
         plugin.debug("Player released from jail: " + playerUUID);
-        return true;
+    }
+    
+    /**
+     * Confine an online prisoner to their country's jail, if it has one
+     */
+    public void confine(Player player) {
+        JailRegion jail = getConfinement(player.getUniqueId());
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session != null) {
+            session.setJail(jail);
+        }
+        
+        if (jail != null && !jail.contains(player.getLocation())) {
+            Location spawn = jail.getSpawnLocation();
+            if (spawn != null) {
+                player.teleport(spawn);
+            }
+        }
+    }
+    
+    /**
+     * Get the jail a player is confined to, or null if they are free or their country has no jail
+     */
+    public JailRegion getConfinement(UUID playerUUID) {
+        String countryName = jailCountries.get(playerUUID);
+        return countryName != null && isPlayerInJail(playerUUID) ? countryJails.get(countryName) : null;
+    }
+    
+    /**
+     * Set a country's jail and move its current prisoners into it
+     */
+    public void setJail(String countryName, JailRegion jail) {
+        String key = countryName.toLowerCase();
+        countryJails.put(key, jail);
+        
+        for (Map.Entry<UUID, String> entry : jailCountries.entrySet()) {
+            if (entry.getValue().equals(key)) {
+                Player prisoner = Bukkit.getPlayer(entry.getKey());
+                if (prisoner != null) {
+                    confine(prisoner);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get a country's jail, or null if it has none
+     */
+    public JailRegion getJail(String countryName) {
+        return countryJails.get(countryName.toLowerCase());
     }
     
     /**
@@ -307,13 +423,8 @@ public class LawSystem {
             return false;
         }
         
-        if (System.currentTimeMillis() >= releaseTime) {
-            // Auto-release if time is up
-            jailedPlayers.remove(playerUUID);
-            return false;
-        }
-        
-        return true;
+        // Served sentences are released by the release task
+        return System.currentTimeMillis() < releaseTime;
     }
     
     /**
@@ -0,0 +1,226 @@
+package xyz.inv1s1bl3.countries.core.session;
+
+import xyz.inv1s1bl3.countries.core.country.CitizenRole;
+import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.law.JailRegion;
+import xyz.inv1s1bl3.countries.core.territory.ChunkCoordinate;
+import xyz.inv1s1bl3.countries.core.territory.SubArea;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
+
+import java.util.UUID;
+
+/**
+ * Per-player facts that hot paths would otherwise resolve on every event.
+ * Built at login and kept up to date by the managers that own the data.
+ */
+public class PlayerSession {
+
+    private final UUID playerUUID;
+    private final long createdAt;
+
+    // Country membership
+    private volatile Country country;
+    private volatile int countryId;
+    private volatile CitizenRole citizenRole;
+
+    // Permission-tier limits, resolved once the player is online
+    private volatile int maxChunks;
+    private volatile int maxTerritories;
+
+    // Protection bypass: permission resolved at login or refresh, toggle by command
+    private volatile boolean bypassPermitted;
+    private volatile boolean bypassToggled;
+    private volatile boolean bypassing;
+    private int lastBypassAction;
+    private long lastBypassAudit;
+
+    // Jail the player is confined to, null when free
+    private volatile JailRegion jail;
+
+    // Location, only written from the main thread
+    private volatile Territory currentTerritory;
+    private volatile SubArea currentSubArea;
+    private String lastWorldName;
+    private long lastChunkKey;
+    private long lastNotification;
+    private long lastDenialMessage;
+
+    public PlayerSession(UUID playerUUID) {
+        this.playerUUID = playerUUID;
+        this.createdAt = System.currentTimeMillis();
+        this.countryId = -1;
+        this.maxChunks = -1;
+        this.maxTerritories = -1;
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Get the player's country, or null if they are not a citizen
+     */
+    public Country getCountry() {
+        return country;
+    }
+
+    /**
+     * Get the player's role in their country, or null if they are not a citizen
+     */
+    public CitizenRole getCitizenRole() {
+        return citizenRole;
+    }
+
+    /**
+     * Get the dense country id used for relation lookups, or -1 if not a citizen
+     */
+    public int getCountryId() {
+        return countryId;
+    }
+
+    public boolean hasCountry() {
+        return country != null;
+    }
+
+    /**
+     * Check if the player is a citizen of the named country
+     */
+    public boolean isCitizenOf(String countryName) {
+        Country current = country;
+        return current != null && current.getName().equalsIgnoreCase(countryName);
+    }
+
+    void setCountry(Country country, int countryId, CitizenRole citizenRole) {
+        this.country = country;
+        this.countryId = countryId;
+        this.citizenRole = citizenRole;
+    }
+
+    /**
+     * Get the chunk claim limit, or -1 if not resolved yet
+     */
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    /**
+     * Get the territory limit, or -1 if not resolved yet
+     */
+    public int getMaxTerritories() {
+        return maxTerritories;
+    }
+
+    void setLimits(int maxChunks, int maxTerritories) {
+        this.maxChunks = maxChunks;
+        this.maxTerritories = maxTerritories;
+    }
+
+    /**
+     * Check if protection checks are bypassed; a plain field read for the hot path
+     */
+    public boolean isBypassing() {
+        return bypassing;
+    }
+
+    public boolean isBypassToggled() {
+        return bypassToggled;
+    }
+
+    /**
+     * Turn bypass on or off; only takes effect while the player has the permission
+     */
+    public void setBypassToggled(boolean bypassToggled) {
+        this.bypassToggled = bypassToggled;
+        this.bypassing = bypassToggled && bypassPermitted;
+    }
+
+    void setBypassPermitted(boolean bypassPermitted) {
+        this.bypassPermitted = bypassPermitted;
+        this.bypassing = bypassToggled && bypassPermitted;
+    }
+
+    /**
+     * Claim an audit entry for a bypassed action; returns false for a repeat within the window
+     */
+    public boolean tryBypassAudit(int actionKey, long now, long windowMillis) {
+        if (actionKey == lastBypassAction && now - lastBypassAudit < windowMillis) {
+            return false;
+        }
+        lastBypassAction = actionKey;
+        lastBypassAudit = now;
+        return true;
+    }
+
+    /**
+     * Get the jail the player is confined to, or null if they are free
+     */
+    public JailRegion getJail() {
+        return jail;
+    }
+
+    public void setJail(JailRegion jail) {
+        this.jail = jail;
+    }
+
+    /**
+     * Get the territory the player is standing in, or null in the wilderness
+     */
+    public Territory getCurrentTerritory() {
+        return currentTerritory;
+    }
+
+    public void setCurrentTerritory(Territory currentTerritory) {
+        this.currentTerritory = currentTerritory;
+    }
+
+    /**
+     * Get the sub-area the player is standing in, or null if none
+     */
+    public SubArea getCurrentSubArea() {
+        return currentSubArea;
+    }
+
+    public void setCurrentSubArea(SubArea currentSubArea) {
+        this.currentSubArea = currentSubArea;
+    }
+
+    /**
+     * Claim a notification slot; returns false if the last one was sent too recently
+     */
+    public boolean tryNotify(long now, long cooldownMillis) {
+        if (now - lastNotification < cooldownMillis) {
+            return false;
+        }
+        lastNotification = now;
+        return true;
+    }
+
+    /**
+     * Claim a denial message slot; returns false if the last one was sent too recently
+     */
+    public boolean tryDenialMessage(long now, long cooldownMillis) {
+        if (now - lastDenialMessage < cooldownMillis) {
+            return false;
+        }
+        lastDenialMessage = now;
+        return true;
+    }
+
+    /**
+     * Record the chunk the player is in; returns true if it differs from the last one
+     */
+    public boolean moveTo(String worldName, int chunkX, int chunkZ) {
+        long chunkKey = ChunkCoordinate.toKey(chunkX, chunkZ);
+        if (chunkKey == lastChunkKey && worldName.equals(lastWorldName)) {
+            return false;
+        }
+
+        lastWorldName = worldName;
+        lastChunkKey = chunkKey;
+        return true;
+    }
+}
@@ -0,0 +1,157 @@
+package xyz.inv1s1bl3.countries.core.session;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.country.Citizen;
+import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.territory.ClaimLimits;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the {@link PlayerSession} of every online player.
+ * Sessions built at pre-login wait in a pending map until the join claims
+ * them, so a login refused later never leaves a live session behind.
+ */
+public class SessionManager {
+
+    private static final long PENDING_TIMEOUT_MILLIS = 60_000L;
+
+    private final CountriesPlugin plugin;
+    private final Map<UUID, PlayerSession> sessions;
+    private final Map<UUID, PlayerSession> pendingSessions;
+
+    public SessionManager(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.sessions = new ConcurrentHashMap<>();
+        this.pendingSessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Build sessions for players already online, e.g. after a plugin reload
+     */
+    public void initialize() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            openSession(player);
+        }
+    }
+
+    /**
+     * Build a session before the player joins; safe to call off the main thread
+     */
+    public void preload(UUID playerUUID) {
+        // Logins that never reached the join are dropped after a while
+        long expired = System.currentTimeMillis() - PENDING_TIMEOUT_MILLIS;
+        pendingSessions.values().removeIf(pending -> pending.getCreatedAt() < expired);
+
+        PlayerSession session = new PlayerSession(playerUUID);
+        refreshCountry(session);
+        pendingSessions.put(playerUUID, session);
+    }
+
+    /**
+     * Drop a preloaded session whose login was refused
+     */
+    public void discardPending(UUID playerUUID) {
+        pendingSessions.remove(playerUUID);
+    }
+
+    /**
+     * Finish a session once the player is online and permissions are available
+     */
+    public PlayerSession openSession(Player player) {
+        PlayerSession session = pendingSessions.remove(player.getUniqueId());
+        if (session == null) {
+            session = new PlayerSession(player.getUniqueId());
+            refreshCountry(session);
+        }
+        sessions.put(player.getUniqueId(), session);
+        refreshPermissions(player, session);
+        session.setJail(plugin.getLawSystem().getConfinement(player.getUniqueId()));
+
+        Location location = player.getLocation();
+        session.moveTo(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        session.setCurrentTerritory(plugin.getTerritoryManager().getTerritoryAt(location));
+        return session;
+    }
+
+    /**
+     * Drop a session and all per-player state tied to it
+     */
+    public void closeSession(Player player) {
+        sessions.remove(player.getUniqueId());
+        plugin.getTerritoryManager().clearPlayerState(player);
+    }
+
+    /**
+     * Get a player's session, or null if they are not online
+     */
+    public PlayerSession getSession(UUID playerUUID) {
+        return sessions.get(playerUUID);
+    }
+
+    public PlayerSession getSession(Player player) {
+        return sessions.get(player.getUniqueId());
+    }
+
+    public Collection<PlayerSession> getSessions() {
+        return sessions.values();
+    }
+
+    /**
+     * Re-read a player's country membership after it changed
+     */
+    public void refreshCountry(UUID playerUUID) {
+        PlayerSession session = sessions.get(playerUUID);
+        if (session != null) {
+            refreshCountry(session);
+        }
+
+        PlayerSession pending = pendingSessions.get(playerUUID);
+        if (pending != null) {
+            refreshCountry(pending);
+        }
+    }
+
+    /**
+     * Re-read the country membership of every session
+     */
+    public void refreshAll() {
+        for (PlayerSession session : sessions.values()) {
+            refreshCountry(session);
+            Player player = Bukkit.getPlayer(session.getPlayerUUID());
+            if (player != null) {
+                refreshPermissions(player, session);
+            }
+        }
+    }
+
+    private void refreshCountry(PlayerSession session) {
+        UUID playerUUID = session.getPlayerUUID();
+        Country country = plugin.getCountryManager().getPlayerCountry(playerUUID);
+        Citizen citizen = country != null ? country.getCitizen(playerUUID) : null;
+        int countryId = country != null ? plugin.getDiplomacyManager().getCountryId(country.getName()) : -1;
+        session.setCountry(country, countryId, citizen != null ? citizen.getRole() : null);
+    }
+
+    /**
+     * Re-resolve everything a session caches from permissions, e.g. after they changed
+     */
+    public void refreshPermissions(Player player) {
+        PlayerSession session = sessions.get(player.getUniqueId());
+        if (session != null) {
+            refreshPermissions(player, session);
+        }
+    }
+
+    private void refreshPermissions(Player player, PlayerSession session) {
+        ClaimLimits claimLimits = plugin.getTerritoryManager().getClaimLimits();
+        session.setLimits(claimLimits.resolveMaxChunks(player), claimLimits.resolveMaxTerritories(player));
+        session.setBypassPermitted(player.hasPermission("countries.admin.bypass"));
+    }
+}
@@ -0,0 +1,350 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import org.bukkit.scheduler.BukkitRunnable;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Per-chunk activity scores for claimed land, decaying exponentially over time.
+ * Uses forward decay: each event adds the current weight e^(t/tau) to the
+ * chunk's raw score, so recording is a single table add with no per-entry
+ * timestamps; reads divide by the current weight. Updated on the main thread
+ * only, flushed to storage from a snapshot.
+ */
+public class ActivityHeatmap {
+
+    private static final double RENORMALIZE_WEIGHT = 1.0e9;
+    private static final double MIN_SCORE = 0.01;
+
+    private final CountriesPlugin plugin;
+    private final Map<String, ScoreTable> worlds;
+    private volatile boolean enabled;
+    private double tauMillis;
+    private long epochMillis;
+    private double weight;
+    private String lastWorld;
+    private ScoreTable lastTable;
+    private BukkitRunnable decayTask;
+    private BukkitRunnable flushTask;
+
+    public ActivityHeatmap(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new ConcurrentHashMap<>();
+        this.enabled = false;
+        this.weight = 1.0;
+    }
+
+    /**
+     * Load stored scores and start the decay and flush tasks if enabled
+     */
+    public void start() {
+        if (!plugin.getConfigManager().getConfig().getBoolean("activity.enabled", false)) {
+            plugin.debug("Chunk activity tracking is disabled.");
+            return;
+        }
+
+        double halfLifeHours = Math.max(1.0, plugin.getConfigManager().getConfig().getDouble("activity.half-life-hours", 72.0));
+        int flushInterval = Math.max(30, plugin.getConfigManager().getConfig().getInt("activity.flush-interval", 300));
+
+        tauMillis = halfLifeHours * 3_600_000.0 / Math.log(2);
+        epochMillis = System.currentTimeMillis();
+        weight = 1.0;
+
+        plugin.getDataManager().getActivityStorage().loadScores((world, chunkX, chunkZ, score) ->
+                getTable(world).add(ChunkCoordinate.toKey(chunkX, chunkZ), score));
+
+        decayTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                updateWeight();
+            }
+        };
+        decayTask.runTaskTimer(plugin, 1200L, 1200L);
+
+        flushTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                flush(true);
+            }
+        };
+        flushTask.runTaskTimer(plugin, flushInterval * 20L, flushInterval * 20L);
+
+        enabled = true;
+        plugin.getLogger().info("Chunk activity tracking enabled with half-life: " + halfLifeHours + " hours");
+    }
+
+    /**
+     * Stop the tasks and write the final scores synchronously
+     */
+    public void stop() {
+        if (decayTask != null) {
+            decayTask.cancel();
+            decayTask = null;
+        }
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (enabled) {
+            flush(false);
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record one unit of activity in a chunk if it is claimed. The territory is the one
+     * the caller already resolved for the chunk (null for wilderness). Main thread only.
+     */
+    public void record(Territory territory, String worldName, int chunkX, int chunkZ) {
+        if (!enabled || territory == null) {
+            return;
+        }
+
+        ScoreTable table = lastTable;
+        if (!worldName.equals(lastWorld)) {
+            table = getTable(worldName);
+            lastWorld = worldName;
+            lastTable = table;
+        }
+        table.add(ChunkCoordinate.toKey(chunkX, chunkZ), weight);
+    }
+
+    /**
+     * Get the current decayed activity score of a chunk
+     */
+    public double getScore(String worldName, int chunkX, int chunkZ) {
+        ScoreTable table = worlds.get(worldName);
+        return table != null ? table.get(ChunkCoordinate.toKey(chunkX, chunkZ)) / weight : 0.0;
+    }
+
+    /**
+     * Get the most active chunks of a territory, most active first
+     */
+    public List<Map.Entry<ChunkCoordinate, Double>> getTopChunks(Territory territory, int limit) {
+        PriorityQueue<Map.Entry<ChunkCoordinate, Double>> top =
+                new PriorityQueue<>(Map.Entry.comparingByValue());
+
+        for (ChunkCoordinate chunk : territory.getChunks()) {
+            double score = getScore(chunk.getWorldName(), chunk.getX(), chunk.getZ());
+            if (score < MIN_SCORE) {
+                continue;
+            }
+
+            top.add(new AbstractMap.SimpleImmutableEntry<>(chunk, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Map.Entry<ChunkCoordinate, Double>> result = new ArrayList<>(top);
+        result.sort(Map.Entry.<ChunkCoordinate, Double>comparingByValue().reversed());
+        return result;
+    }
+
+    /**
+     * Recompute the decay weight, rescaling raw scores before it grows too large
+     */
+    private void updateWeight() {
+        weight = Math.exp((System.currentTimeMillis() - epochMillis) / tauMillis);
+        if (weight > RENORMALIZE_WEIGHT) {
+            for (ScoreTable table : worlds.values()) {
+                table.scale(1.0 / weight);
+            }
+            epochMillis = System.currentTimeMillis();
+            weight = 1.0;
+        }
+    }
+
+    /**
+     * Snapshot decayed scores, drop negligible ones and write them to storage
+     */
+    private void flush(boolean async) {
+        updateWeight();
+
+        List<ActivityScore> scores = new ArrayList<>();
+        List<ActivityScore> expired = new ArrayList<>();
+        for (Map.Entry<String, ScoreTable> entry : worlds.entrySet()) {
+            entry.getValue().drainInto(entry.getKey(), weight, scores, expired);
+        }
+
+        Runnable write = () -> {
+            try {
+                plugin.getDataManager().getActivityStorage().saveScores(scores, expired);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error flushing chunk activity!", e);
+            }
+        };
+
+        if (async) {
+            plugin.getDataManager().executeAsync(write);
+        } else {
+            write.run();
+        }
+    }
+
+    private ScoreTable getTable(String worldName) {
+        return worlds.computeIfAbsent(worldName, k -> new ScoreTable());
+    }
+
+    /**
+     * A decayed chunk score ready to be stored
+     */
+    public static final class ActivityScore {
+
+        private final String worldName;
+        private final int chunkX;
+        private final int chunkZ;
+        private final double score;
+
+        public ActivityScore(String worldName, int chunkX, int chunkZ, double score) {
+            this.worldName = worldName;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.score = score;
+        }
+
+        public String getWorldName() {
+            return worldName;
+        }
+
+        public int getChunkX() {
+            return chunkX;
+        }
+
+        public int getChunkZ() {
+            return chunkZ;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Receives stored scores while loading
+     */
+    @FunctionalInterface
+    public interface ScoreConsumer {
+        void accept(String worldName, int chunkX, int chunkZ, double score);
+    }
+
+    /**
+     * Linear-probing long -> double table. Not thread-safe; owned by the main thread.
+     */
+    private static final class ScoreTable {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys;
+        private double[] values;
+        private int size;
+
+        private ScoreTable() {
+            allocate(64);
+        }
+
+        private void add(long key, double amount) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                rehash(keys.length * 2);
+            }
+
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    values[slot] += amount;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            values[slot] = amount;
+            size++;
+        }
+
+        private double get(long key) {
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return 0.0;
+        }
+
+        private void scale(double factor) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] *= factor;
+            }
+        }
+
+        /**
+         * Collect decayed scores, removing entries that decayed below the threshold
+         */
+        private void drainInto(String worldName, double weight, List<ActivityScore> scores, List<ActivityScore> expired) {
+            boolean removed = false;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == EMPTY) {
+                    continue;
+                }
+
+                double score = values[i] / weight;
+                ActivityScore entry = new ActivityScore(worldName,
+                        ChunkCoordinate.keyX(keys[i]), ChunkCoordinate.keyZ(keys[i]), score);
+                if (score < MIN_SCORE) {
+                    keys[i] = EMPTY;
+                    values[i] = 0.0;
+                    size--;
+                    removed = true;
+                    expired.add(entry);
+                } else {
+                    scores.add(entry);
+                }
+            }
+
+            // Clearing slots in place breaks probe chains, so rebuild them
+            if (removed) {
+                rehash(keys.length);
+            }
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            allocate(capacity);
+
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(oldKeys[i], mask);
+                    while (keys[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new double[capacity];
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
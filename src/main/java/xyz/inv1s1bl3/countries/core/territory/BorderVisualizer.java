@@ -8,20 +8,34 @@ import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
  * Handles particle visualization for territory borders.
+ * All visualizations share one repeating task that renders each player's
+ * session when it is due, within a per-tick budget so a burst of requests is
+ * spread over several ticks, and drops sessions past their deadline.
  */
 public class BorderVisualizer {
     
+    private static final int BORDER_PERIOD_TICKS = 10; // Every 0.5 seconds
+    private static final int SELECTION_PERIOD_TICKS = 20; // Every second
+    private static final int SELECTION_DURATION_TICKS = 600; // 30 seconds
+    private static final int MAX_RENDERS_PER_TICK = 20;
+    
     private final CountriesPlugin plugin;
-    private final Map<UUID, BukkitRunnable> activeVisualizations;
+    private final Map<UUID, Visualization> activeVisualizations;
     private final Map<UUID, Set<ChunkCoordinate>> playerVisibleChunks;
+    private final List<Visualization> dueVisualizations;
+    private BukkitRunnable tickTask;
+    private long currentTick;
+    private int renderCursor;
     
     public BorderVisualizer(CountriesPlugin plugin) {
         this.plugin = plugin;
         this.activeVisualizations = new ConcurrentHashMap<>();
         this.playerVisibleChunks = new ConcurrentHashMap<>();
+        this.dueVisualizations = new ArrayList<>();
     }
     
     /**
@@ -40,30 +54,11 @@ public class BorderVisualizer {
             return;
         }
         
-        stopVisualization(player);
-        
-        Set<ChunkCoordinate> chunks = territory.getChunks();
-        playerVisibleChunks.put(player.getUniqueId(), chunks);
-        
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    cancel();
-                    return;
-                }
-                
-                showChunkBorders(player, chunks, getParticleType(territory.getType()));
-            }
-        };
-        
-        activeVisualizations.put(player.getUniqueId(), task);
+        playerVisibleChunks.put(player.getUniqueId(), territory.getChunks());
         
-        // Show for configured duration
-        task.runTaskTimer(plugin, 0L, 10L); // Every 0.5 seconds
-        
-        // Auto-stop after duration
-        Bukkit.getScheduler().runTaskLater(plugin, () -> stopVisualization(player), durationSeconds * 20L);
+        Particle particle = getParticleType(territory.getType());
+        start(player, territory.getWorldName(), BORDER_PERIOD_TICKS, durationSeconds * 20L,
+                () -> showTerritoryOutline(player, territory, particle));
         
         ChatUtils.sendSuccess(player, "Showing borders for " + territory.getName() + " (" + durationSeconds + "s)");
     }
@@ -76,66 +71,156 @@ public class BorderVisualizer {
             return;
         }
         
-        stopVisualization(player);
+        playerVisibleChunks.remove(player.getUniqueId());
+        start(player, corner1.getWorld().getName(), SELECTION_PERIOD_TICKS, SELECTION_DURATION_TICKS,
+                () -> showSelectionBorders(player, corner1, corner2));
+    }
+    
+    /**
+     * Replace a player's visualization; it is first rendered on the next tick
+     */
+    private void start(Player player, String worldName, int periodTicks, long durationTicks, Runnable renderer) {
+        activeVisualizations.put(player.getUniqueId(), new Visualization(player, worldName, renderer,
+                periodTicks, currentTick + 1, currentTick + durationTicks));
         
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    cancel();
-                    return;
+        if (tickTask == null) {
+            tickTask = new BukkitRunnable() {
+                @Override
+                public void run() {
+                    tick();
                 }
-                
-                showSelectionBorders(player, corner1, corner2);
-            }
-        };
-        
-        activeVisualizations.put(player.getUniqueId(), task);
-        task.runTaskTimer(plugin, 0L, 20L); // Every second
-        
-        // Auto-stop after 30 seconds
-        Bukkit.getScheduler().runTaskLater(plugin, () -> stopVisualization(player), 600L);
+            };
+            tickTask.runTaskTimer(plugin, 1L, 1L);
+        }
     }
     
     /**
-     * Show chunk borders with particles
+     * Render due visualizations and expire finished ones; stops itself when idle
      */
-    private void showChunkBorders(Player player, Set<ChunkCoordinate> chunks, Particle particle) {
-        World world = player.getWorld();
+    private void tick() {
+        long tick = ++currentTick;
         
-        for (ChunkCoordinate coord : chunks) {
-            if (!coord.getWorldName().equals(world.getName())) {
+        Iterator<Map.Entry<UUID, Visualization>> iterator = activeVisualizations.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Visualization> entry = iterator.next();
+            Visualization visualization = entry.getValue();
+            
+            if (tick >= visualization.deadlineTick || !visualization.player.isOnline()) {
+                iterator.remove();
+                playerVisibleChunks.remove(entry.getKey());
                 continue;
             }
             
-            // Calculate chunk boundaries
-            int chunkX = coord.getX() * 16;
-            int chunkZ = coord.getZ() * 16;
-            
-            // Get height range
-            int minY = plugin.getConfigManager().getConfig().getInt("territory.particles.min-height", 60);
-            int maxY = plugin.getConfigManager().getConfig().getInt("territory.particles.max-height", 80);
-            
-            // Show corner particles
-            for (int y = minY; y <= maxY; y += 5) {
-                // Four corners of the chunk
-                spawnParticle(player, world, chunkX, y, chunkZ, particle);
-                spawnParticle(player, world, chunkX + 15, y, chunkZ, particle);
-                spawnParticle(player, world, chunkX, y, chunkZ + 15, particle);
-                spawnParticle(player, world, chunkX + 15, y, chunkZ + 15, particle);
+            if (tick >= visualization.nextRenderTick) {
+                dueVisualizations.add(visualization);
             }
-            
-            // Show edge particles (less dense)
-            for (int i = 0; i < 16; i += 4) {
-                int y = world.getHighestBlockYAt(chunkX + i, chunkZ) + 1;
-                spawnParticle(player, world, chunkX + i, y, chunkZ, particle);
-                spawnParticle(player, world, chunkX + i, y, chunkZ + 15, particle);
-                spawnParticle(player, world, chunkX, y, chunkZ + i, particle);
-                spawnParticle(player, world, chunkX + 15, y, chunkZ + i, particle);
+        }
+        
+        // Start where the last tick stopped so a burst is served round-robin;
+        // sessions over budget stay due and wait for the next tick
+        int due = dueVisualizations.size();
+        int renders = Math.min(due, MAX_RENDERS_PER_TICK);
+        int start = due > 0 ? renderCursor % due : 0;
+        for (int i = 0; i < renders; i++) {
+            render(dueVisualizations.get((start + i) % due), tick);
+        }
+        renderCursor = start + renders;
+        dueVisualizations.clear();
+        
+        if (activeVisualizations.isEmpty()) {
+            cancelTickTask();
+        }
+    }
+    
+    /**
+     * Render one session; a failing session is dropped without affecting the others
+     */
+    private void render(Visualization visualization, long tick) {
+        visualization.nextRenderTick = tick + visualization.periodTicks;
+        
+        // Nothing to draw while the player is in another world
+        if (!visualization.worldName.equals(visualization.player.getWorld().getName())) {
+            return;
+        }
+        
+        try {
+            visualization.renderer.run();
+        } catch (RuntimeException e) {
+            UUID playerUUID = visualization.player.getUniqueId();
+            activeVisualizations.remove(playerUUID, visualization);
+            playerVisibleChunks.remove(playerUUID);
+            plugin.getLogger().log(Level.WARNING, "Stopped border visualization of " + visualization.player.getName(), e);
+        }
+    }
+    
+    private void cancelTickTask() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+    
+    /**
+     * Show the outer border of a territory with particles, skipping edges
+     * shared between the territory's own chunks
+     */
+    private void showTerritoryOutline(Player player, Territory territory, Particle particle) {
+        World world = player.getWorld();
+        if (!territory.getWorldName().equals(world.getName())) {
+            return;
+        }
+        
+        // Get height range
+        int minY = plugin.getConfigManager().getConfig().getInt("territory.particles.min-height", 60);
+        int maxY = plugin.getConfigManager().getConfig().getInt("territory.particles.max-height", 80);
+        
+        Location playerLocation = player.getLocation();
+        
+        for (TerritoryOutline.Ring ring : territory.getOutline()) {
+            for (int i = 0; i < ring.size(); i++) {
+                int next = (i + 1) % ring.size();
+                int x1 = ring.getBlockX(i);
+                int z1 = ring.getBlockZ(i);
+                int x2 = ring.getBlockX(next);
+                int z2 = ring.getBlockZ(next);
+                
+                // Show corner particles; already range-checked, so spawn directly
+                if (isInRange(playerLocation, x1, z1)) {
+                    for (int y = minY; y <= maxY; y += 5) {
+                        player.spawnParticle(particle, x1, y, z1, 1, 0, 0, 0, 0);
+                    }
+                }
+                
+                // Show edge particles (less dense)
+                int stepX = Integer.signum(x2 - x1);
+                int stepZ = Integer.signum(z2 - z1);
+                int length = Math.abs(x2 - x1) + Math.abs(z2 - z1);
+                
+                for (int step = 4; step < length; step += 4) {
+                    int x = x1 + stepX * step;
+                    int z = z1 + stepZ * step;
+                    
+                    // Check range before resolving height so distant chunks aren't loaded
+                    if (!isInRange(playerLocation, x, z)) {
+                        continue;
+                    }
+                    
+                    int y = world.getHighestBlockYAt(x, z) + 1;
+                    player.spawnParticle(particle, x, y + 0.5, z, 1, 0, 0, 0, 0);
+                }
             }
         }
     }
     
+    /**
+     * Check if a border point is within particle render distance horizontally
+     */
+    private boolean isInRange(Location playerLocation, int x, int z) {
+        double deltaX = playerLocation.getX() - x;
+        double deltaZ = playerLocation.getZ() - z;
+        return deltaX * deltaX + deltaZ * deltaZ <= 100 * 100;
+    }
+    
     /**
      * Show selection area borders
      */
@@ -187,8 +272,13 @@ public class BorderVisualizer {
      * Spawn particle for player
      */
     private void spawnParticle(Player player, World world, int x, int y, int z, Particle particle) {
-        Location loc = new Location(world, x + 0.5, y + 0.5, z + 0.5);
-        
+        spawnParticle(player, new Location(world, x + 0.5, y + 0.5, z + 0.5), particle);
+    }
+    
+    /**
+     * Spawn particle for player at an exact location if it is within render distance
+     */
+    private void spawnParticle(Player player, Location loc, Particle particle) {
         // Only show if player is within render distance
         if (player.getLocation().distance(loc) <= 100) {
             player.spawnParticle(particle, loc, 1, 0, 0, 0, 0);
@@ -215,10 +305,7 @@ public class BorderVisualizer {
      * Stop visualization for a player
      */
     public void stopVisualization(Player player) {
-        BukkitRunnable task = activeVisualizations.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
-        }
+        activeVisualizations.remove(player.getUniqueId());
         playerVisibleChunks.remove(player.getUniqueId());
     }
     
@@ -226,11 +313,9 @@ public class BorderVisualizer {
      * Stop all visualizations
      */
     public void stopAllVisualizations() {
-        for (BukkitRunnable task : activeVisualizations.values()) {
-            task.cancel();
-        }
         activeVisualizations.clear();
         playerVisibleChunks.clear();
+        cancelTickTask();
     }
     
     /**
@@ -239,4 +324,27 @@ public class BorderVisualizer {
     public boolean hasActiveVisualization(Player player) {
         return activeVisualizations.containsKey(player.getUniqueId());
     }
+    
+    /**
+     * One player's visualization, driven by the shared tick
+     */
+    private static final class Visualization {
+        
+        private final Player player;
+        private final String worldName;
+        private final Runnable renderer;
+        private final int periodTicks;
+        private final long deadlineTick;
+        private long nextRenderTick;
+        
+        private Visualization(Player player, String worldName, Runnable renderer, int periodTicks,
+                              long nextRenderTick, long deadlineTick) {
+            this.player = player;
+            this.worldName = worldName;
+            this.renderer = renderer;
+            this.periodTicks = periodTicks;
+            this.nextRenderTick = nextRenderTick;
+            this.deadlineTick = deadlineTick;
+        }
+    }
 }
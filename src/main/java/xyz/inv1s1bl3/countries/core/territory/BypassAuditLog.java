@@ -0,0 +1,85 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.logging.Level;
+
+/**
+ * Audit trail of actions that went through only because of admin bypass.
+ * The main thread only captures the facts; formatting and file writes run
+ * on the data executor. Repeats of the same action at the same block within
+ * a short window are collapsed so held clicks and item pickups don't flood it.
+ */
+public class BypassAuditLog {
+
+    private static final long REPEAT_WINDOW_MILLIS = 5000L;
+
+    private final CountriesPlugin plugin;
+    private volatile boolean enabled;
+    private volatile File file;
+
+    public BypassAuditLog(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.enabled = true;
+    }
+
+    /**
+     * Re-read audit settings
+     */
+    public void reload() {
+        enabled = plugin.getConfigManager().getConfig().getBoolean("territory.bypass-audit.enabled", true);
+        file = new File(plugin.getDataFolder(),
+                plugin.getConfigManager().getConfig().getString("territory.bypass-audit.file", "bypass-audit.log"));
+    }
+
+    /**
+     * Record a denial that was overridden by bypass
+     */
+    public void record(Player player, PlayerSession session, ProtectionEngine.Denial denial, Location location) {
+        if (!enabled) {
+            return;
+        }
+
+        Territory territory = denial.getTerritory();
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        int actionKey = denial.getFlag().ordinal();
+        actionKey = 31 * actionKey + (territory != null ? territory.hashCode() : 0);
+        actionKey = 31 * actionKey + x;
+        actionKey = 31 * actionKey + y;
+        actionKey = 31 * actionKey + z;
+        long now = System.currentTimeMillis();
+        if (!session.tryBypassAudit(actionKey, now, REPEAT_WINDOW_MILLIS)) {
+            return;
+        }
+
+        String playerName = player.getName();
+        String territoryName = territory != null
+                ? territory.getName() + " (" + territory.getCountryName() + ")"
+                : "wilderness";
+        String worldName = location.getWorld().getName();
+        File target = file;
+
+        plugin.getDataManager().executeAsync(() -> {
+            String line = Instant.ofEpochMilli(now) + " " + playerName + " bypassed " + denial.getFlag().name()
+                    + " in " + territoryName + " at " + worldName + " " + x + "," + y + "," + z
+                    + System.lineSeparator();
+            try {
+                Files.writeString(target.toPath(), line, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not write bypass audit log", e);
+            }
+        });
+    }
+}
@@ -45,6 +45,34 @@ public class ChunkCoordinate {
         return z;
     }
     
+    /**
+     * Get the packed chunk key for this coordinate (world excluded)
+     */
+    public long getKey() {
+        return toKey(x, z);
+    }
+    
+    /**
+     * Pack chunk X/Z into a single long key
+     */
+    public static long toKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Extract chunk X from a packed key
+     */
+    public static int keyX(long key) {
+        return (int) (key >> 32);
+    }
+    
+    /**
+     * Extract chunk Z from a packed key
+     */
+    public static int keyZ(long key) {
+        return (int) key;
+    }
+    
     /**
      * Get the chunk if the world is loaded
      */
@@ -0,0 +1,271 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Chunk claim lookup keyed by packed chunk coordinates.
+ * Each world has its own open-addressing table, so lookups need no
+ * ChunkCoordinate allocation and reads are lock-free in the common case.
+ */
+public class ClaimIndex {
+
+    private final Map<String, WorldClaims> worlds;
+
+    public ClaimIndex() {
+        this.worlds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the territory claiming a chunk, or null for wilderness
+     */
+    public Territory get(String worldName, int chunkX, int chunkZ) {
+        WorldClaims claims = worlds.get(worldName);
+        return claims != null ? claims.get(ChunkCoordinate.toKey(chunkX, chunkZ)) : null;
+    }
+
+    public Territory get(ChunkCoordinate coord) {
+        return get(coord.getWorldName(), coord.getX(), coord.getZ());
+    }
+
+    /**
+     * Claim a chunk for a territory, replacing any previous claim
+     */
+    public void put(ChunkCoordinate coord, Territory territory) {
+        worlds.computeIfAbsent(coord.getWorldName(), k -> new WorldClaims())
+                .put(coord.getKey(), territory);
+    }
+
+    /**
+     * Remove a chunk claim, returning the territory that held it
+     */
+    public Territory remove(ChunkCoordinate coord) {
+        WorldClaims claims = worlds.get(coord.getWorldName());
+        return claims != null ? claims.remove(coord.getKey()) : null;
+    }
+
+    public boolean contains(ChunkCoordinate coord) {
+        return get(coord) != null;
+    }
+
+    /**
+     * Check whether a world has any claims at all
+     */
+    public boolean hasClaims(String worldName) {
+        WorldClaims claims = worlds.get(worldName);
+        return claims != null && claims.size() > 0;
+    }
+
+    /**
+     * Visit every claimed chunk of a world with its packed key
+     */
+    public void forEach(String worldName, BiConsumer<Long, Territory> action) {
+        WorldClaims claims = worlds.get(worldName);
+        if (claims != null) {
+            claims.forEach(action);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (WorldClaims claims : worlds.values()) {
+            size += claims.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    /**
+     * Linear-probing long -> Territory table guarded by a stamped lock.
+     * Readers try an optimistic read first and only fall back to a read lock
+     * when a writer got in between.
+     */
+    private static final class WorldClaims {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final StampedLock lock = new StampedLock();
+        private long[] keys;
+        private Territory[] values;
+        private int size;
+
+        private WorldClaims() {
+            allocate(64);
+        }
+
+        private Territory get(long key) {
+            long stamp = lock.tryOptimisticRead();
+            Territory result = find(keys, values, key);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    result = find(keys, values, key);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return result;
+        }
+
+        private void put(long key, Territory territory) {
+            long stamp = lock.writeLock();
+            try {
+                if ((size + 1) * 4 > keys.length * 3) {
+                    resize(keys.length * 2);
+                }
+
+                int mask = keys.length - 1;
+                int slot = slot(key, mask);
+                while (keys[slot] != EMPTY) {
+                    if (keys[slot] == key) {
+                        values[slot] = territory;
+                        return;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+
+                keys[slot] = key;
+                values[slot] = territory;
+                size++;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private Territory remove(long key) {
+            long stamp = lock.writeLock();
+            try {
+                int mask = keys.length - 1;
+                int slot = slot(key, mask);
+                while (keys[slot] != EMPTY) {
+                    if (keys[slot] == key) {
+                        Territory removed = values[slot];
+                        shiftBack(slot, mask);
+                        size--;
+                        return removed;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void forEach(BiConsumer<Long, Territory> action) {
+            long[] keySnapshot;
+            Territory[] valueSnapshot;
+
+            long stamp = lock.readLock();
+            try {
+                keySnapshot = keys.clone();
+                valueSnapshot = values.clone();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+
+            for (int i = 0; i < keySnapshot.length; i++) {
+                if (keySnapshot[i] != EMPTY) {
+                    action.accept(keySnapshot[i], valueSnapshot[i]);
+                }
+            }
+        }
+
+        private int size() {
+            long stamp = lock.tryOptimisticRead();
+            int result = size;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    result = size;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Close the gap left by a removal so probe chains stay intact
+         */
+        private void shiftBack(int gap, int mask) {
+            int slot = gap;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (keys[slot] == EMPTY) {
+                    break;
+                }
+
+                int home = slot(keys[slot], mask);
+                boolean movable = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+                if (movable) {
+                    keys[gap] = keys[slot];
+                    values[gap] = values[slot];
+                    gap = slot;
+                }
+            }
+            keys[gap] = EMPTY;
+            values[gap] = null;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Territory[] oldValues = values;
+            allocate(capacity);
+
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(oldKeys[i], mask);
+                    while (keys[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            long[] newKeys = new long[capacity];
+            Arrays.fill(newKeys, EMPTY);
+            values = new Territory[capacity];
+            keys = newKeys;
+        }
+
+        /**
+         * Probe a table without locking; callers validate the result
+         */
+        private static Territory find(long[] keys, Territory[] values, long key) {
+            // Arrays may be mid-resize during an optimistic read
+            if (keys.length != values.length) {
+                return null;
+            }
+
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            for (int probes = 0; probes < keys.length; probes++) {
+                long current = keys[slot];
+                if (current == key) {
+                    return values[slot];
+                }
+                if (current == EMPTY) {
+                    return null;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
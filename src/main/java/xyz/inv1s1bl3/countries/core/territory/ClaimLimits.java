@@ -2,6 +2,7 @@ package xyz.inv1s1bl3.countries.core.territory;
 
 import org.bukkit.entity.Player;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
 
 /**
  * Manages claiming limits based on permission nodes.
@@ -15,10 +16,32 @@ public class ClaimLimits {
     }
     
     /**
-     * Get maximum chunks a player can claim based on permissions
-     * Format: countries.chunks.X where X is the number
+     * Get maximum chunks a player can claim, using the session value when available
      */
     public int getMaxChunks(Player player) {
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session != null && session.getMaxChunks() >= 0) {
+            return session.getMaxChunks();
+        }
+        return resolveMaxChunks(player);
+    }
+    
+    /**
+     * Get maximum territories a player can create, using the session value when available
+     */
+    public int getMaxTerritories(Player player) {
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session != null && session.getMaxTerritories() >= 0) {
+            return session.getMaxTerritories();
+        }
+        return resolveMaxTerritories(player);
+    }
+    
+    /**
+     * Resolve maximum chunks a player can claim based on permissions
+     * Format: countries.chunks.X where X is the number
+     */
+    public int resolveMaxChunks(Player player) {
         int maxChunks = plugin.getConfigManager().getConfig().getInt("territory.default-max-chunks", 50);
         
         // Check for permission-based limits
@@ -40,10 +63,10 @@ public class ClaimLimits {
     }
     
     /**
-     * Get maximum territories a player can create based on permissions
+     * Resolve maximum territories a player can create based on permissions
      * Format: countries.territories.X where X is the number
      */
-    public int getMaxTerritories(Player player) {
+    public int resolveMaxTerritories(Player player) {
         int maxTerritories = plugin.getConfigManager().getConfig().getInt("territory.default-max-territories", 5);
         
         // Check for permission-based limits
@@ -0,0 +1,89 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches permission decisions per (player, territory, flag).
+ * Each player keeps decisions for the last territory they were checked in.
+ * An entry is valid while the territory's version and the global epoch are
+ * unchanged; the epoch is bumped on country membership, role and diplomacy
+ * changes, which affect every territory at once.
+ */
+public class DecisionCache {
+
+    public static final byte UNKNOWN = 0;
+    public static final byte ALLOW = 1;
+    public static final byte DENY = 2;
+
+    private static final int FLAG_COUNT = TerritoryFlag.values().length;
+
+    private final Map<UUID, Entry> entries;
+    private final AtomicInteger epoch;
+
+    public DecisionCache() {
+        this.entries = new ConcurrentHashMap<>();
+        this.epoch = new AtomicInteger();
+    }
+
+    /**
+     * Get a cached decision, or UNKNOWN if none is valid
+     */
+    public byte get(UUID playerUUID, Territory territory, TerritoryFlag flag) {
+        Entry entry = entries.get(playerUUID);
+        if (entry == null || entry.territory != territory
+                || entry.version != territory.getVersion() || entry.epoch != epoch.get()) {
+            return UNKNOWN;
+        }
+        return entry.decisions[flag.ordinal()];
+    }
+
+    /**
+     * Store a decision. Only call from the main thread.
+     */
+    public void put(UUID playerUUID, Territory territory, TerritoryFlag flag, boolean allowed) {
+        Entry entry = entries.computeIfAbsent(playerUUID, k -> new Entry());
+
+        int version = territory.getVersion();
+        int currentEpoch = epoch.get();
+        if (entry.territory != territory || entry.version != version || entry.epoch != currentEpoch) {
+            entry.reset(territory, version, currentEpoch);
+        }
+        entry.decisions[flag.ordinal()] = allowed ? ALLOW : DENY;
+    }
+
+    /**
+     * Invalidate every cached decision
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * Forget a player's decisions
+     */
+    public void remove(UUID playerUUID) {
+        entries.remove(playerUUID);
+    }
+
+    /**
+     * Decisions of one player in one territory
+     */
+    private static final class Entry {
+
+        private final byte[] decisions = new byte[FLAG_COUNT];
+        private Territory territory;
+        private int version;
+        private int epoch;
+
+        private void reset(Territory territory, int version, int epoch) {
+            Arrays.fill(decisions, UNKNOWN);
+            this.territory = territory;
+            this.version = version;
+            this.epoch = epoch;
+        }
+    }
+}
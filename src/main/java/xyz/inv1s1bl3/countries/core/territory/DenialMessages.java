@@ -0,0 +1,86 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
+import xyz.inv1s1bl3.countries.utils.ChatUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-rendered protection denial messages.
+ * The territory message only depends on the owning country, so it is built
+ * once per country and reused; every send is rate limited per player so
+ * holding left-click on a protected block produces one message per interval.
+ */
+public class DenialMessages {
+
+    private final CountriesPlugin plugin;
+    private final Map<String, Component> countryMessages;
+    private volatile Component buildDenied;
+    private volatile Component accessDenied;
+    private volatile Component pvpDenied;
+    private volatile long cooldownMillis;
+    private volatile boolean actionBar;
+
+    public DenialMessages(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.countryMessages = new ConcurrentHashMap<>();
+        this.cooldownMillis = 1500L;
+    }
+
+    /**
+     * Re-read settings and rebuild the fixed messages
+     */
+    public void reload() {
+        cooldownMillis = Math.max(0L, plugin.getConfigManager().getConfig().getLong("territory.denial-messages.cooldown-ms", 1500L));
+        actionBar = plugin.getConfigManager().getConfig().getBoolean("territory.denial-messages.action-bar", false);
+
+        countryMessages.clear();
+        buildDenied = render("&cYou cannot build in this area!");
+        accessDenied = render("&cYou cannot access this area!");
+        pvpDenied = render("&cYou cannot attack this player here!");
+    }
+
+    /**
+     * Tell a player why an action was denied, at most once per interval
+     */
+    public void send(Player player, ProtectionEngine.Denial denial) {
+        Territory territory = denial.getTerritory();
+        if (territory != null) {
+            send(player, countryMessages.computeIfAbsent(territory.getCountryName().toLowerCase(),
+                    k -> render(plugin.getConfigManager().getMessage("territory.protected", territory.getCountryName()))));
+        } else if (denial.getFlag() == TerritoryFlag.BUILD || denial.getFlag() == TerritoryFlag.BREAK) {
+            send(player, buildDenied);
+        } else {
+            send(player, accessDenied);
+        }
+    }
+
+    /**
+     * Tell a player they cannot attack another player here
+     */
+    public void sendPvpDenied(Player player) {
+        send(player, pvpDenied);
+    }
+
+    private void send(Player player, Component message) {
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session != null && !session.tryDenialMessage(System.currentTimeMillis(), cooldownMillis)) {
+            return;
+        }
+
+        if (actionBar) {
+            player.sendActionBar(message);
+        } else {
+            player.sendMessage(message);
+        }
+    }
+
+    private Component render(String message) {
+        String prefix = actionBar ? "" : plugin.getConfigManager().getMessage("general.prefix");
+        return ChatUtils.toComponent(prefix + message);
+    }
+}
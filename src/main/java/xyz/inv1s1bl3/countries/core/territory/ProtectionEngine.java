@@ -0,0 +1,281 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single entry point for territory protection checks.
+ * Resolves the territory once per check and evaluates cheapest-first:
+ * wilderness, territory owner, sub-area, cached decision, full evaluation.
+ * A check returns null when the action is allowed, otherwise a {@link Denial}
+ * the caller can render.
+ */
+public class ProtectionEngine {
+
+    // Everyday actions whose territory flag binds citizens too, but which no role is needed for
+    private static final int EVERYDAY_MASK = TerritoryFlag.CONTAINER_ACCESS.getMask()
+            | TerritoryFlag.ITEM_PICKUP.getMask()
+            | TerritoryFlag.ITEM_DROP.getMask()
+            | TerritoryFlag.FLY.getMask()
+            | TerritoryFlag.TELEPORT.getMask();
+
+    private final CountriesPlugin plugin;
+    private final TerritoryManager territoryManager;
+    private final DecisionCache decisionCache;
+    private final DenialMessages denialMessages;
+    private final WorldPolicies worldPolicies;
+    private final BypassAuditLog bypassAuditLog;
+    private final Map<TerritoryFlag, Denial> wildernessDenials;
+    private volatile boolean protectionEnabled;
+
+    public ProtectionEngine(CountriesPlugin plugin, TerritoryManager territoryManager) {
+        this.plugin = plugin;
+        this.territoryManager = territoryManager;
+        this.decisionCache = new DecisionCache();
+        this.denialMessages = new DenialMessages(plugin);
+        this.worldPolicies = new WorldPolicies(plugin);
+        this.bypassAuditLog = new BypassAuditLog(plugin);
+        this.wildernessDenials = new EnumMap<>(TerritoryFlag.class);
+        for (TerritoryFlag flag : TerritoryFlag.values()) {
+            wildernessDenials.put(flag, new Denial(denialMessages, Denial.Reason.WILDERNESS, flag, null));
+        }
+        this.protectionEnabled = true;
+    }
+
+    /**
+     * Re-read protection settings and drop cached decisions
+     */
+    public void reload() {
+        protectionEnabled = plugin.getConfigManager().getConfig().getBoolean("territory.enable-protection", true);
+        worldPolicies.reload();
+        bypassAuditLog.reload();
+        decisionCache.invalidateAll();
+        denialMessages.reload();
+    }
+
+    public DenialMessages getDenialMessages() {
+        return denialMessages;
+    }
+
+    public WorldPolicies getWorldPolicies() {
+        return worldPolicies;
+    }
+
+    /**
+     * Check whether protection is enforced at all
+     */
+    public boolean isProtectionEnabled() {
+        return protectionEnabled;
+    }
+
+    /**
+     * Check whether protection is enforced in a world; the first check of every listener
+     */
+    public boolean isProtectionEnabled(World world) {
+        return protectionEnabled && worldPolicies.isProtected(world);
+    }
+
+    /**
+     * Check an action, honouring the global protection toggle
+     */
+    public Denial checkProtected(Player player, Location location, TerritoryFlag flag) {
+        return isProtectionEnabled(location.getWorld()) ? check(player, location, flag) : null;
+    }
+
+    /**
+     * Check an action in an already resolved territory (null for wilderness),
+     * honouring the global protection toggle
+     */
+    public Denial checkProtected(Player player, Territory territory, Location location, TerritoryFlag flag) {
+        return isProtectionEnabled(location.getWorld()) ? check(player, territory, location, flag) : null;
+    }
+
+    /**
+     * Check an action at a location; returns null if it is allowed
+     */
+    public Denial check(Player player, Location location, TerritoryFlag flag) {
+        return check(player, territoryManager.getTerritoryAt(location), location, flag);
+    }
+
+    /**
+     * Check an action in an already resolved territory (null for wilderness); returns null if it is allowed
+     */
+    public Denial check(Player player, Territory territory, Location location, TerritoryFlag flag) {
+        if (territory == null) {
+            return isWildernessAllowed(location.getWorld(), flag)
+                    ? null
+                    : bypass(player, wildernessDenials.get(flag), location);
+        }
+
+        Denial denial = resolve(player, territory, location, flag);
+        return denial != null ? bypass(player, denial, location) : null;
+    }
+
+    private Denial resolve(Player player, Territory territory, Location location, TerritoryFlag flag) {
+        UUID playerUUID = player.getUniqueId();
+        if (territory.getPlayerRole(playerUUID) == TerritoryRole.OWNER) {
+            return null;
+        }
+
+        SubArea subArea = territory.getSubAreaAt(location);
+        if (subArea != null) {
+            return subArea.hasFlag(playerUUID, flag) ? null : new Denial(denialMessages, Denial.Reason.SUB_AREA, flag, territory);
+        }
+
+        byte cached = decisionCache.get(playerUUID, territory, flag);
+        if (cached != DecisionCache.UNKNOWN) {
+            return cached == DecisionCache.ALLOW ? null : new Denial(denialMessages, Denial.Reason.TERRITORY, flag, territory);
+        }
+
+        boolean allowed = evaluate(player, territory, flag);
+        if (Bukkit.isPrimaryThread()) {
+            decisionCache.put(playerUUID, territory, flag, allowed);
+        }
+        return allowed ? null : new Denial(denialMessages, Denial.Reason.TERRITORY, flag, territory);
+    }
+
+    /**
+     * Let a denial through for players in bypass mode, leaving an audit entry.
+     * Only reached on denials, so allowed actions never pay for the session lookup,
+     * and the permission is re-checked here so a mid-session revocation applies at once.
+     */
+    private Denial bypass(Player player, Denial denial, Location location) {
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session == null || !session.isBypassing()) {
+            return denial;
+        }
+
+        if (!player.hasPermission("countries.admin.bypass")) {
+            plugin.getSessionManager().refreshPermissions(player);
+            return denial;
+        }
+
+        bypassAuditLog.record(player, session, denial, location);
+        return null;
+    }
+
+    private boolean isWildernessAllowed(World world, TerritoryFlag flag) {
+        return worldPolicies.isWildernessBuildingAllowed(world) || (flag != TerritoryFlag.BUILD && flag != TerritoryFlag.BREAK);
+    }
+
+    /**
+     * Evaluate territory-level permission without the cache
+     */
+    private boolean evaluate(Player player, Territory territory, TerritoryFlag flag) {
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        Country playerCountry = session != null
+                ? session.getCountry()
+                : plugin.getCountryManager().getPlayerCountry(player);
+        return evaluate(territory, player.getUniqueId(), playerCountry != null ? playerCountry.getName() : null, flag);
+    }
+
+    /**
+     * Evaluate territory-level permission for a player of the given country (null if none)
+     */
+    private static boolean evaluate(Territory territory, UUID playerUUID, String countryName, TerritoryFlag flag) {
+        // Country members can always act in their territory
+        boolean member = countryName != null && territory.getCountryName().equalsIgnoreCase(countryName);
+
+        // Check if player or player's country is specifically allowed
+        boolean allowed = member || territory.isPlayerAllowed(playerUUID)
+                || (countryName != null && territory.isCountryAllowed(countryName));
+
+        if ((flag.getMask() & EVERYDAY_MASK) != 0) {
+            // Container access is off by default to keep outsiders out of chests,
+            // so it never applies to the territory's own people
+            if (flag == TerritoryFlag.CONTAINER_ACCESS && allowed) {
+                return true;
+            }
+
+            // The rest follow the territory flag for everyone; citizens and
+            // allow-listed players need no role, outsiders need public access or one
+            return territory.hasFlag(flag)
+                    && (allowed || territory.allowsPublicAccess() || territory.hasRoleFlag(playerUUID, flag));
+        }
+
+        // Check territory flags and role-based permissions
+        if (!territory.hasFlag(flag) || !territory.hasRoleFlag(playerUUID, flag)) {
+            return false;
+        }
+
+        if (flag == TerritoryFlag.BUILD || flag == TerritoryFlag.BREAK) {
+            // Check if territory allows building
+            if (!territory.allowsBuilding()) {
+                return false;
+            }
+        } else if (territory.allowsPublicAccess()) {
+            return true;
+        }
+
+        return allowed;
+    }
+
+    /**
+     * Invalidate all cached decisions
+     */
+    public void invalidateAll() {
+        decisionCache.invalidateAll();
+    }
+
+    /**
+     * Forget cached decisions of a player
+     */
+    public void clearPlayer(UUID playerUUID) {
+        decisionCache.remove(playerUUID);
+    }
+
+    /**
+     * Why an action was denied
+     */
+    public static final class Denial {
+
+        public enum Reason {
+            WILDERNESS,
+            SUB_AREA,
+            TERRITORY
+        }
+
+        private final DenialMessages messages;
+        private final Reason reason;
+        private final TerritoryFlag flag;
+        private final Territory territory;
+
+        private Denial(DenialMessages messages, Reason reason, TerritoryFlag flag, Territory territory) {
+            this.messages = messages;
+            this.reason = reason;
+            this.flag = flag;
+            this.territory = territory;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+
+        public TerritoryFlag getFlag() {
+            return flag;
+        }
+
+        /**
+         * Get the territory the action was denied in, or null in the wilderness
+         */
+        public Territory getTerritory() {
+            return territory;
+        }
+
+        /**
+         * Tell the player why the action was denied, rate limited per player
+         */
+        public void send(Player player) {
+            messages.send(player, this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.utils.ChatUtils;
+
+import java.util.List;
+
+/**
+ * The territory selection tool item.
+ * Identified by a tag in its persistent data container rather than by its
+ * display name, so renaming it in an anvil keeps it working and checking an
+ * item needs no meta copy or string handling.
+ */
+public class SelectionTool {
+
+    private static final Material MATERIAL = Material.GOLDEN_AXE;
+
+    private final NamespacedKey key;
+
+    public SelectionTool(CountriesPlugin plugin) {
+        this.key = new NamespacedKey(plugin, "selection_tool");
+    }
+
+    /**
+     * Create a new tagged selection tool
+     */
+    public ItemStack create() {
+        ItemStack tool = new ItemStack(MATERIAL);
+        ItemMeta meta = tool.getItemMeta();
+        meta.setDisplayName(ChatUtils.colorize("&6Territory Selection Tool"));
+        meta.setLore(List.of(
+                ChatUtils.colorize("&7Left-click to set corner 1"),
+                ChatUtils.colorize("&7Right-click to set corner 2")));
+        meta.getPersistentDataContainer().set(key, PersistentDataType.BYTE, (byte) 1);
+        tool.setItemMeta(meta);
+        return tool;
+    }
+
+    /**
+     * Check if an item is a selection tool; the material test rejects almost everything first
+     */
+    public boolean isSelectionTool(ItemStack item) {
+        return item != null && item.getType() == MATERIAL
+                && item.getPersistentDataContainer().has(key, PersistentDataType.BYTE);
+    }
+}
@@ -5,6 +5,7 @@ import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Represents a sub-area within a territory with specific permissions and settings.
@@ -20,7 +21,7 @@ public class SubArea {
     
     // Permissions
     private final Map<UUID, TerritoryRole> playerRoles;
-    private final Map<TerritoryRole, Map<TerritoryFlag, Boolean>> roleFlags;
+    private final AtomicIntegerArray roleFlagMasks;
     
     // Settings
     private String description;
@@ -44,7 +45,7 @@ public class SubArea {
         this.createdDate = System.currentTimeMillis();
         
         this.playerRoles = new ConcurrentHashMap<>();
-        this.roleFlags = new ConcurrentHashMap<>();
+        this.roleFlagMasks = new AtomicIntegerArray(TerritoryRole.values().length);
         
         this.description = "A sub-area within " + territoryName;
         this.forRent = false;
@@ -62,7 +63,7 @@ public class SubArea {
     
     private void initializeDefaultRoleFlags() {
         for (TerritoryRole role : TerritoryRole.values()) {
-            roleFlags.put(role, new EnumMap<>(role.getDefaultFlags()));
+            roleFlagMasks.set(role.ordinal(), role.getDefaultFlagMask());
         }
     }
     
@@ -186,6 +187,53 @@ public class SubArea {
                location.getZ() >= minZ && location.getZ() <= maxZ;
     }
     
+    // Block-aligned bounds
+    public int getMinX() {
+        return Math.min(corner1.getBlockX(), corner2.getBlockX());
+    }
+    
+    public int getMaxX() {
+        return Math.max(corner1.getBlockX(), corner2.getBlockX());
+    }
+    
+    public int getMinY() {
+        return Math.min(corner1.getBlockY(), corner2.getBlockY());
+    }
+    
+    public int getMaxY() {
+        return Math.max(corner1.getBlockY(), corner2.getBlockY());
+    }
+    
+    public int getMinZ() {
+        return Math.min(corner1.getBlockZ(), corner2.getBlockZ());
+    }
+    
+    public int getMaxZ() {
+        return Math.max(corner1.getBlockZ(), corner2.getBlockZ());
+    }
+    
+    /**
+     * Check if this sub-area shares at least one block with another
+     */
+    public boolean intersects(SubArea other) {
+        if (!worldName.equals(other.worldName)) {
+            return false;
+        }
+        
+        return getMinX() <= other.getMaxX() && getMaxX() >= other.getMinX() &&
+               getMinY() <= other.getMaxY() && getMaxY() >= other.getMinY() &&
+               getMinZ() <= other.getMaxZ() && getMaxZ() >= other.getMinZ();
+    }
+    
+    /**
+     * Get the number of blocks covered, without int overflow
+     */
+    public long getVolume() {
+        return (long) (getMaxX() - getMinX() + 1) *
+               (getMaxY() - getMinY() + 1) *
+               (getMaxZ() - getMinZ() + 1);
+    }
+    
     /**
      * Get player's role in this sub-area
      */
@@ -209,23 +257,36 @@ public class SubArea {
      */
     public boolean hasFlag(UUID playerUUID, TerritoryFlag flag) {
         TerritoryRole role = getPlayerRole(playerUUID);
-        Map<TerritoryFlag, Boolean> flags = roleFlags.get(role);
-        return flags != null && flags.getOrDefault(flag, false);
+        return (roleFlagMasks.get(role.ordinal()) & flag.getMask()) != 0;
     }
     
     /**
      * Set flag for a specific role
      */
     public void setRoleFlag(TerritoryRole role, TerritoryFlag flag, boolean value) {
-        roleFlags.computeIfAbsent(role, k -> new EnumMap<>(TerritoryFlag.class))
-                 .put(flag, value);
+        int bit = flag.getMask();
+        roleFlagMasks.updateAndGet(role.ordinal(), mask -> value ? mask | bit : mask & ~bit);
     }
     
     /**
      * Get all flags for a role
      */
     public Map<TerritoryFlag, Boolean> getRoleFlags(TerritoryRole role) {
-        return new EnumMap<>(roleFlags.getOrDefault(role, new EnumMap<>(TerritoryFlag.class)));
+        return TerritoryFlag.fromMask(roleFlagMasks.get(role.ordinal()));
+    }
+    
+    /**
+     * Get the flag bitmask for a role
+     */
+    public int getRoleFlagMask(TerritoryRole role) {
+        return roleFlagMasks.get(role.ordinal());
+    }
+    
+    /**
+     * Set the flag bitmask for a role
+     */
+    public void setRoleFlagMask(TerritoryRole role, int mask) {
+        roleFlagMasks.set(role.ordinal(), mask);
     }
     
     /**
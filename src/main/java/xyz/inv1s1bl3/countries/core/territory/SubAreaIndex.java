@@ -0,0 +1,106 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import org.bukkit.Location;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Spatial index for the sub-areas of a single territory.
+ * Sub-areas are bucketed by every chunk their footprint touches, so point
+ * lookups and overlap checks only look at the sub-areas sharing a chunk.
+ */
+public class SubAreaIndex {
+
+    private final Map<Long, List<SubArea>> buckets;
+
+    public SubAreaIndex() {
+        this.buckets = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Add a sub-area to every chunk bucket it touches
+     */
+    public void add(SubArea subArea) {
+        for (int chunkX = subArea.getMinX() >> 4; chunkX <= subArea.getMaxX() >> 4; chunkX++) {
+            for (int chunkZ = subArea.getMinZ() >> 4; chunkZ <= subArea.getMaxZ() >> 4; chunkZ++) {
+                buckets.computeIfAbsent(ChunkCoordinate.toKey(chunkX, chunkZ),
+                        k -> new CopyOnWriteArrayList<>()).add(subArea);
+            }
+        }
+    }
+
+    /**
+     * Remove a sub-area from all of its chunk buckets
+     */
+    public void remove(SubArea subArea) {
+        for (int chunkX = subArea.getMinX() >> 4; chunkX <= subArea.getMaxX() >> 4; chunkX++) {
+            for (int chunkZ = subArea.getMinZ() >> 4; chunkZ <= subArea.getMaxZ() >> 4; chunkZ++) {
+                long key = ChunkCoordinate.toKey(chunkX, chunkZ);
+                List<SubArea> bucket = buckets.get(key);
+                if (bucket != null) {
+                    bucket.remove(subArea);
+                    if (bucket.isEmpty()) {
+                        buckets.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the sub-area containing a location, if any
+     */
+    public SubArea getAt(Location location) {
+        if (buckets.isEmpty()) {
+            return null;
+        }
+
+        List<SubArea> bucket = buckets.get(ChunkCoordinate.toKey(
+                location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        if (bucket == null) {
+            return null;
+        }
+
+        for (SubArea subArea : bucket) {
+            if (subArea.contains(location)) {
+                return subArea;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find an indexed sub-area that overlaps the given one
+     */
+    public SubArea findOverlap(SubArea candidate) {
+        if (buckets.isEmpty()) {
+            return null;
+        }
+
+        for (int chunkX = candidate.getMinX() >> 4; chunkX <= candidate.getMaxX() >> 4; chunkX++) {
+            for (int chunkZ = candidate.getMinZ() >> 4; chunkZ <= candidate.getMaxZ() >> 4; chunkZ++) {
+                List<SubArea> bucket = buckets.get(ChunkCoordinate.toKey(chunkX, chunkZ));
+                if (bucket == null) {
+                    continue;
+                }
+
+                for (SubArea existing : bucket) {
+                    if (existing != candidate && existing.intersects(candidate)) {
+                        return existing;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove all sub-areas from the index
+     */
+    public void clear() {
+        buckets.clear();
+    }
+}
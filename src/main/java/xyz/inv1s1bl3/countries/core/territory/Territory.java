@@ -4,6 +4,7 @@ import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Represents a territory owned by a country, consisting of one or more chunks.
@@ -17,6 +18,8 @@ public class Territory {
     private final long claimedDate;
     private final Set<ChunkCoordinate> chunks;
     private final Map<String, SubArea> subAreas;
+    private final SubAreaIndex subAreaIndex;
+    private final TerritoryOutline outline;
     
     // Settings
     private boolean allowPublicAccess;
@@ -24,8 +27,8 @@ public class Territory {
     private boolean allowPvP;
     private double upkeepCost;
     private String description;
-    private final Map<TerritoryFlag, Boolean> flags;
-    private final Map<TerritoryRole, Map<TerritoryFlag, Boolean>> roleFlags;
+    private volatile int flagMask;
+    private final AtomicIntegerArray roleFlagMasks;
     private final Map<UUID, TerritoryRole> playerRoles;
     
     // Permissions
@@ -43,7 +46,8 @@ public class Territory {
     
     // Statistics
     private long lastActive;
-    private int totalVisitors;
+    private volatile int version; // Bumped on every change that can affect permission decisions
+    private VisitorAnalytics visitors;
     
     public Territory(String name, String countryName, String worldName, TerritoryType type) {
         this.name = name;
@@ -53,6 +57,8 @@ public class Territory {
         this.claimedDate = System.currentTimeMillis();
         this.chunks = ConcurrentHashMap.newKeySet();
         this.subAreas = new ConcurrentHashMap<>();
+        this.subAreaIndex = new SubAreaIndex();
+        this.outline = new TerritoryOutline();
         
         // Initialize settings based on territory type
         this.allowPublicAccess = type.allowsPublicAccess();
@@ -60,8 +66,8 @@ public class Territory {
         this.allowPvP = false;
         this.upkeepCost = 0.0;
         this.description = "A " + type.getDisplayName().toLowerCase() + " territory.";
-        this.flags = new EnumMap<>(TerritoryFlag.class);
-        this.roleFlags = new ConcurrentHashMap<>();
+        this.flagMask = TerritoryFlag.getDefaultMask();
+        this.roleFlagMasks = new AtomicIntegerArray(TerritoryRole.values().length);
         this.playerRoles = new ConcurrentHashMap<>();
         
         this.allowedPlayers = ConcurrentHashMap.newKeySet();
@@ -75,22 +81,15 @@ public class Territory {
         this.leaveMessage = "";
         
         this.lastActive = System.currentTimeMillis();
-        this.totalVisitors = 0;
+        this.visitors = new VisitorAnalytics();
         
-        // Initialize default flags and roles
-        initializeDefaultFlags();
+        // Initialize default role flags
         initializeDefaultRoles();
     }
     
-    private void initializeDefaultFlags() {
-        for (TerritoryFlag flag : TerritoryFlag.values()) {
-            flags.put(flag, flag.getDefaultValue());
-        }
-    }
-    
     private void initializeDefaultRoles() {
         for (TerritoryRole role : TerritoryRole.values()) {
-            roleFlags.put(role, new EnumMap<>(role.getDefaultFlags()));
+            roleFlagMasks.set(role.ordinal(), role.getDefaultFlagMask());
         }
     }
     
@@ -139,8 +138,16 @@ public class Territory {
         return lastActive;
     }
     
+    public int getVersion() {
+        return version;
+    }
+    
     public int getTotalVisitors() {
-        return totalVisitors;
+        return (int) visitors.getUniqueVisitors();
+    }
+    
+    public VisitorAnalytics getVisitorAnalytics() {
+        return visitors;
     }
     
     public Map<String, SubArea> getSubAreas() {
@@ -222,9 +229,13 @@ public class Territory {
         updateLastActive();
     }
     
-    public void incrementVisitors() {
-        this.totalVisitors++;
-        updateLastActive();
+    public void recordVisitor(UUID playerUUID) {
+        visitors.recordVisit(playerUUID);
+        this.lastActive = System.currentTimeMillis();
+    }
+    
+    public void setVisitorAnalytics(VisitorAnalytics visitors) {
+        this.visitors = visitors != null ? visitors : new VisitorAnalytics();
     }
     
     // Chunk management
@@ -247,6 +258,7 @@ public class Territory {
         
         boolean added = chunks.add(chunk);
         if (added) {
+            outline.addChunk(chunk.getX(), chunk.getZ());
             updateLastActive();
         }
         return added;
@@ -255,11 +267,20 @@ public class Territory {
     public boolean removeChunk(ChunkCoordinate chunk) {
         boolean removed = chunks.remove(chunk);
         if (removed) {
+            outline.removeChunk(chunk.getX(), chunk.getZ());
             updateLastActive();
         }
         return removed;
     }
     
+    /**
+     * Get the outline of this territory as polygon rings, including holes.
+     * The result is cached and only re-traced around chunks that changed.
+     */
+    public List<TerritoryOutline.Ring> getOutline() {
+        return outline.getRings();
+    }
+    
     /**
      * Check if territory is contiguous (all chunks are connected)
      */
@@ -373,39 +394,74 @@ public class Territory {
             return false;
         }
         subAreas.put(subArea.getName().toLowerCase(), subArea);
+        subAreaIndex.add(subArea);
         updateLastActive();
         return true;
     }
     
     public boolean removeSubArea(String name) {
-        boolean removed = subAreas.remove(name.toLowerCase()) != null;
-        if (removed) {
+        SubArea removed = subAreas.remove(name.toLowerCase());
+        if (removed != null) {
+            subAreaIndex.remove(removed);
             updateLastActive();
         }
-        return removed;
+        return removed != null;
+    }
+    
+    public int getSubAreaCount() {
+        return subAreas.size();
     }
     
     public SubArea getSubAreaAt(org.bukkit.Location location) {
-        for (SubArea subArea : subAreas.values()) {
-            if (subArea.contains(location)) {
-                return subArea;
+        return subAreaIndex.getAt(location);
+    }
+    
+    /**
+     * Find an existing sub-area that overlaps the given one
+     */
+    public SubArea findOverlappingSubArea(SubArea subArea) {
+        return subAreaIndex.findOverlap(subArea);
+    }
+    
+    /**
+     * Check if a sub-area's footprint lies entirely within this territory's chunks
+     */
+    public boolean containsSubArea(SubArea subArea) {
+        if (!subArea.getWorldName().equals(worldName)) {
+            return false;
+        }
+        
+        for (int chunkX = subArea.getMinX() >> 4; chunkX <= subArea.getMaxX() >> 4; chunkX++) {
+            for (int chunkZ = subArea.getMinZ() >> 4; chunkZ <= subArea.getMaxZ() >> 4; chunkZ++) {
+                if (!chunks.contains(new ChunkCoordinate(worldName, chunkX, chunkZ))) {
+                    return false;
+                }
             }
         }
-        return null;
+        return true;
     }
     
     // Flag management
     public boolean hasFlag(TerritoryFlag flag) {
-        return flags.getOrDefault(flag, flag.getDefaultValue());
+        return (flagMask & flag.getMask()) != 0;
     }
     
-    public void setFlag(TerritoryFlag flag, boolean value) {
-        flags.put(flag, value);
+    public synchronized void setFlag(TerritoryFlag flag, boolean value) {
+        flagMask = value ? flagMask | flag.getMask() : flagMask & ~flag.getMask();
         updateLastActive();
     }
     
     public Map<TerritoryFlag, Boolean> getAllFlags() {
-        return new EnumMap<>(flags);
+        return TerritoryFlag.fromMask(flagMask);
+    }
+    
+    public int getFlagMask() {
+        return flagMask;
+    }
+    
+    public void setFlagMask(int flagMask) {
+        this.flagMask = flagMask;
+        updateLastActive();
     }
     
     // Role management
@@ -424,18 +480,26 @@ public class Territory {
     
     public boolean hasRoleFlag(UUID playerUUID, TerritoryFlag flag) {
         TerritoryRole role = getPlayerRole(playerUUID);
-        Map<TerritoryFlag, Boolean> roleFlagMap = roleFlags.get(role);
-        return roleFlagMap != null && roleFlagMap.getOrDefault(flag, false);
+        return (roleFlagMasks.get(role.ordinal()) & flag.getMask()) != 0;
     }
     
     public void setRoleFlag(TerritoryRole role, TerritoryFlag flag, boolean value) {
-        roleFlags.computeIfAbsent(role, k -> new EnumMap<>(TerritoryFlag.class))
-                 .put(flag, value);
+        int bit = flag.getMask();
+        roleFlagMasks.updateAndGet(role.ordinal(), mask -> value ? mask | bit : mask & ~bit);
         updateLastActive();
     }
     
     public Map<TerritoryFlag, Boolean> getRoleFlags(TerritoryRole role) {
-        return new EnumMap<>(roleFlags.getOrDefault(role, new EnumMap<>(TerritoryFlag.class)));
+        return TerritoryFlag.fromMask(roleFlagMasks.get(role.ordinal()));
+    }
+    
+    public int getRoleFlagMask(TerritoryRole role) {
+        return roleFlagMasks.get(role.ordinal());
+    }
+    
+    public void setRoleFlagMask(TerritoryRole role, int mask) {
+        roleFlagMasks.set(role.ordinal(), mask);
+        updateLastActive();
     }
     
     public Map<UUID, TerritoryRole> getAllPlayerRoles() {
@@ -445,6 +509,7 @@ public class Territory {
     // Utility methods
     private void updateLastActive() {
         this.lastActive = System.currentTimeMillis();
+        this.version++;
     }
     
     public long getDaysSinceClaimed() {
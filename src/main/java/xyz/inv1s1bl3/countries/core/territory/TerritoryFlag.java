@@ -1,7 +1,11 @@
 package xyz.inv1s1bl3.countries.core.territory;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Represents different flags that can be set on territories to control behavior.
+ * Flags are stored as bitmasks keyed by ordinal, so new flags must be appended.
  */
 public enum TerritoryFlag {
     // Player Action Flags
@@ -37,11 +41,13 @@ public enum TerritoryFlag {
     private final String displayName;
     private final String description;
     private final boolean defaultValue;
+    private final int mask;
     
     TerritoryFlag(String displayName, String description, boolean defaultValue) {
         this.displayName = displayName;
         this.description = description;
         this.defaultValue = defaultValue;
+        this.mask = 1 << ordinal();
     }
     
     public String getDisplayName() {
@@ -56,6 +62,34 @@ public enum TerritoryFlag {
         return defaultValue;
     }
     
+    public int getMask() {
+        return mask;
+    }
+    
+    /**
+     * Get the bitmask of all flags enabled by default
+     */
+    public static int getDefaultMask() {
+        int mask = 0;
+        for (TerritoryFlag flag : values()) {
+            if (flag.defaultValue) {
+                mask |= flag.mask;
+            }
+        }
+        return mask;
+    }
+    
+    /**
+     * Expand a flag bitmask into a map of every flag
+     */
+    public static Map<TerritoryFlag, Boolean> fromMask(int mask) {
+        Map<TerritoryFlag, Boolean> flags = new EnumMap<>(TerritoryFlag.class);
+        for (TerritoryFlag flag : values()) {
+            flags.put(flag, (mask & flag.mask) != 0);
+        }
+        return flags;
+    }
+    
     /**
      * Get flag from string, case insensitive
      */
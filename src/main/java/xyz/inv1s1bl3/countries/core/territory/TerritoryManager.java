@@ -20,23 +20,39 @@ public class TerritoryManager {
     private final CountriesPlugin plugin;
     private final ClaimLimits claimLimits;
     private final BorderVisualizer borderVisualizer;
+    private final TerritoryMapRenderer mapRenderer;
+    private final ActivityHeatmap activityHeatmap;
+    private final ProtectionEngine protectionEngine;
+    private final TerritoryTracker territoryTracker;
+    private final SelectionTool selectionTool;
     private final Map<String, Territory> territories; // Territory name -> Territory
-    private final Map<ChunkCoordinate, String> chunkClaims; // Chunk -> Territory name
+    private final ClaimIndex claimIndex; // Chunk -> Territory
     private final Map<String, Set<String>> countryTerritories; // Country name -> Territory names
     private final Map<UUID, String> playerSelections; // Player UUID -> Selection tool mode
     private final Map<UUID, Location> selectionCorner1; // Player UUID -> First corner
     private final Map<UUID, Location> selectionCorner2; // Player UUID -> Second corner
+    private final Set<String> dirtyTerritories; // Territory names changed since the last drain
+    private final Map<String, Set<Long>> dirtyRegions; // World -> 32x32 chunk regions with claim changes
     
     public TerritoryManager(CountriesPlugin plugin) {
         this.plugin = plugin;
         this.claimLimits = new ClaimLimits(plugin);
         this.borderVisualizer = new BorderVisualizer(plugin);
+        this.mapRenderer = new TerritoryMapRenderer(plugin);
+        this.activityHeatmap = new ActivityHeatmap(plugin);
         this.territories = new ConcurrentHashMap<>();
-        this.chunkClaims = new ConcurrentHashMap<>();
+        this.claimIndex = new ClaimIndex();
         this.countryTerritories = new ConcurrentHashMap<>();
         this.playerSelections = new ConcurrentHashMap<>();
         this.selectionCorner1 = new ConcurrentHashMap<>();
         this.selectionCorner2 = new ConcurrentHashMap<>();
+        this.dirtyTerritories = ConcurrentHashMap.newKeySet();
+        this.dirtyRegions = new ConcurrentHashMap<>();
+        this.protectionEngine = new ProtectionEngine(plugin, this);
+        this.territoryTracker = new TerritoryTracker(plugin);
+        this.selectionTool = new SelectionTool(plugin);
+        protectionEngine.reload();
+        territoryTracker.reload();
     }
     
     /**
@@ -55,9 +71,20 @@ public class TerritoryManager {
     public void reload() {
         plugin.debug("Reloading territory manager...");
         
+        // Everything known before the reload has to be re-exported
+        dirtyTerritories.addAll(territories.keySet());
+        for (Territory territory : territories.values()) {
+            for (ChunkCoordinate chunk : territory.getChunks()) {
+                markRegionDirty(chunk);
+            }
+        }
+        
         // Clear current data
         territories.clear();
-        chunkClaims.clear();
+        claimIndex.clear();
+        mapRenderer.clear();
+        protectionEngine.reload();
+        territoryTracker.reload();
         countryTerritories.clear();
         
         // Reload from storage
@@ -70,6 +97,11 @@ public class TerritoryManager {
      * Claim a chunk for a territory
      */
     public boolean claimChunk(Player player, String territoryName, Chunk chunk) {
+        if (!protectionEngine.getWorldPolicies().isClaimingAllowed(chunk.getWorld())) {
+            ChatUtils.sendError(player, "Territories cannot be claimed in this world!");
+            return false;
+        }
+        
         // Check claiming limits first
         if (!claimLimits.canClaimChunk(player)) {
             ChatUtils.sendError(player, "You have reached your chunk claiming limit! (" + 
@@ -157,7 +189,9 @@ public class TerritoryManager {
             
             // Add chunk to territory
             if (territory.addChunk(coord)) {
-                chunkClaims.put(coord, territoryName.toLowerCase());
+                claimIndex.put(coord, territory);
+                markTerritoryDirty(territory);
+                markRegionDirty(coord);
                 
                 // Update country territory count
                 country.setTotalTerritories(getCountryTerritoryCount(country.getName()));
@@ -196,21 +230,19 @@ public class TerritoryManager {
         }
         
         ChunkCoordinate coord = new ChunkCoordinate(chunk);
-        String territoryName = chunkClaims.get(coord);
-        
-        if (territoryName == null) {
-            return false;
-        }
-        
-        Territory territory = territories.get(territoryName);
+        Territory territory = claimIndex.get(coord);
         if (territory == null || !territory.getCountryName().equalsIgnoreCase(country.getName())) {
             return false;
         }
         
+        String territoryName = territory.getName().toLowerCase();
+        
         try {
             // Remove chunk from territory
             if (territory.removeChunk(coord)) {
-                chunkClaims.remove(coord);
+                claimIndex.remove(coord);
+                markTerritoryDirty(territory);
+                markRegionDirty(coord);
                 
                 // If territory has no chunks left, remove it
                 if (territory.getChunkCount() == 0) {
@@ -254,25 +286,28 @@ public class TerritoryManager {
      * Get territory at a specific location
      */
     public Territory getTerritoryAt(Location location) {
-        ChunkCoordinate coord = new ChunkCoordinate(location);
-        String territoryName = chunkClaims.get(coord);
-        return territoryName != null ? territories.get(territoryName) : null;
+        return claimIndex.get(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
     }
     
     /**
      * Get territory at a specific chunk
      */
     public Territory getTerritoryAt(Chunk chunk) {
-        ChunkCoordinate coord = new ChunkCoordinate(chunk);
-        String territoryName = chunkClaims.get(coord);
-        return territoryName != null ? territories.get(territoryName) : null;
+        return claimIndex.get(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+    
+    /**
+     * Get territory at a specific chunk coordinate
+     */
+    public Territory getTerritoryAt(String worldName, int chunkX, int chunkZ) {
+        return claimIndex.get(worldName, chunkX, chunkZ);
     }
     
     /**
      * Check if a chunk is claimed
      */
     public boolean isChunkClaimed(ChunkCoordinate coord) {
-        return chunkClaims.containsKey(coord);
+        return claimIndex.contains(coord);
     }
     
     /**
@@ -330,104 +365,33 @@ public class TerritoryManager {
      * Check if a player can build at a location
      */
     public boolean canPlayerBuild(Player player, Location location) {
-        Territory territory = getTerritoryAt(location);
-        if (territory == null) {
-            // Allow building in wilderness if configured
-            return plugin.getConfigManager().getConfig()
-                    .getBoolean("territory.allow-wilderness-claims", true);
-        }
-        
-        // Check sub-area first
-        SubArea subArea = territory.getSubAreaAt(location);
-        if (subArea != null) {
-            return subArea.hasFlag(player.getUniqueId(), TerritoryFlag.BUILD);
-        }
-        
-        // Check territory flags
-        if (!territory.hasFlag(TerritoryFlag.BUILD)) {
-            return false;
-        }
-        
-        // Check role-based permissions
-        if (!territory.hasRoleFlag(player.getUniqueId(), TerritoryFlag.BUILD)) {
-            return false;
-        }
-        
-        // Check if territory allows building
-        if (!territory.allowsBuilding()) {
-            return false;
-        }
-        
-        Country playerCountry = plugin.getCountryManager().getPlayerCountry(player);
-        
-        // Country members can always build in their territory
-        if (playerCountry != null && 
-            territory.getCountryName().equalsIgnoreCase(playerCountry.getName())) {
-            return true;
-        }
-        
-        // Check if player is specifically allowed
-        if (territory.isPlayerAllowed(player.getUniqueId())) {
-            return true;
-        }
-        
-        // Check if player's country is allowed
-        if (playerCountry != null && territory.isCountryAllowed(playerCountry.getName())) {
-            return true;
-        }
-        
-        return false;
+        return protectionEngine.check(player, location, TerritoryFlag.BUILD) == null;
     }
     
     /**
      * Check if a player can access a location
      */
     public boolean canPlayerAccess(Player player, Location location) {
-        Territory territory = getTerritoryAt(location);
-        if (territory == null) {
-            return true; // Wilderness is accessible
-        }
-        
-        // Check sub-area first
-        SubArea subArea = territory.getSubAreaAt(location);
-        if (subArea != null) {
-            return subArea.hasFlag(player.getUniqueId(), TerritoryFlag.INTERACT);
-        }
-        
-        // Check territory flags
-        if (!territory.hasFlag(TerritoryFlag.INTERACT)) {
-            return false;
-        }
-        
-        // Check role-based permissions
-        if (!territory.hasRoleFlag(player.getUniqueId(), TerritoryFlag.INTERACT)) {
-            return false;
-        }
-        
-        // Check public access
-        if (territory.allowsPublicAccess()) {
-            return true;
-        }
-        
-        Country playerCountry = plugin.getCountryManager().getPlayerCountry(player);
-        
-        // Country members can always access their territory
-        if (playerCountry != null && 
-            territory.getCountryName().equalsIgnoreCase(playerCountry.getName())) {
-            return true;
-        }
-        
-        // Check if player is specifically allowed
-        if (territory.isPlayerAllowed(player.getUniqueId())) {
-            return true;
-        }
-        
-        // Check if player's country is allowed
-        if (playerCountry != null && territory.isCountryAllowed(playerCountry.getName())) {
-            return true;
-        }
-        
-        return false;
+        return protectionEngine.check(player, location, TerritoryFlag.INTERACT) == null;
+    }
+    
+    /**
+     * Invalidate all cached permission decisions, e.g. after membership or diplomacy changes
+     */
+    public void invalidatePermissionCache() {
+        protectionEngine.invalidateAll();
+    }
+    
+    /**
+     * Drop selections, visualizations and cached decisions of a player who left
+     */
+    public void clearPlayerState(Player player) {
+        UUID playerUUID = player.getUniqueId();
+        playerSelections.remove(playerUUID);
+        selectionCorner1.remove(playerUUID);
+        selectionCorner2.remove(playerUUID);
+        borderVisualizer.stopVisualization(player);
+        protectionEngine.clearPlayer(playerUUID);
     }
     
     /**
@@ -451,10 +415,49 @@ public class TerritoryManager {
             return false;
         }
         
+        if (!corner1.getWorld().equals(corner2.getWorld())) {
+            ChatUtils.sendError(player, "Both corners must be in the same world!");
+            return false;
+        }
+        
+        // Check sub-area count limit
+        int maxSubAreas = plugin.getConfigManager().getConfig()
+                .getInt("territory.max-sub-areas-per-territory", 10);
+        
+        if (territory.getSubAreaCount() >= maxSubAreas) {
+            ChatUtils.sendError(player, "This territory has reached its sub-area limit! (" + 
+                    territory.getSubAreaCount() + "/" + maxSubAreas + ")");
+            return false;
+        }
+        
         // Create sub-area
         SubArea subArea = new SubArea(subAreaName, territoryName, 
                 corner1.getWorld().getName(), corner1, corner2);
         
+        // Check sub-area size limit
+        int maxSize = plugin.getConfigManager().getConfig()
+                .getInt("territory.max-sub-area-size", 1000);
+        
+        if (subArea.getVolume() > maxSize) {
+            ChatUtils.sendError(player, "Sub-area is too large! (" + 
+                    subArea.getVolume() + "/" + maxSize + " blocks)");
+            return false;
+        }
+        
+        // Sub-areas must stay inside the territory's claimed chunks
+        if (!territory.containsSubArea(subArea)) {
+            ChatUtils.sendError(player, "Sub-area must be fully inside the territory's claimed chunks!");
+            return false;
+        }
+        
+        // Sub-areas must not overlap, so every location resolves to at most one
+        SubArea overlapping = territory.findOverlappingSubArea(subArea);
+        if (overlapping != null) {
+            ChatUtils.sendError(player, "Sub-area overlaps with existing sub-area '" + 
+                    overlapping.getName() + "'!");
+            return false;
+        }
+        
         if (territory.addSubArea(subArea)) {
             saveTerritory(territory);
             return true;
@@ -597,11 +600,13 @@ public class TerritoryManager {
         try {
             // Remove all chunk claims
             for (ChunkCoordinate chunk : territory.getChunks()) {
-                chunkClaims.remove(chunk);
+                claimIndex.remove(chunk);
+                markRegionDirty(chunk);
             }
             
             // Remove territory
             territories.remove(territoryName.toLowerCase());
+            markTerritoryDirty(territory);
             
             // Remove from country territories
             Set<String> countryTerrs = countryTerritories.get(country.getName().toLowerCase());
@@ -624,6 +629,57 @@ public class TerritoryManager {
         }
     }
     
+    /**
+     * Flag a territory as changed for consumers that sync incrementally
+     */
+    public void markTerritoryDirty(Territory territory) {
+        dirtyTerritories.add(territory.getName().toLowerCase());
+    }
+    
+    /**
+     * Take and clear the names of territories changed since the last call.
+     * Names of deleted territories are included; they no longer resolve.
+     */
+    public Set<String> drainDirtyTerritories() {
+        Set<String> drained = new HashSet<>();
+        for (String name : dirtyTerritories) {
+            if (dirtyTerritories.remove(name)) {
+                drained.add(name);
+            }
+        }
+        return drained;
+    }
+    
+    /**
+     * Flag the 32x32 chunk region around a chunk as having claim changes
+     * and drop cached map rows covering it
+     */
+    private void markRegionDirty(ChunkCoordinate chunk) {
+        mapRenderer.invalidate(chunk.getWorldName(), chunk.getX(), chunk.getZ());
+        dirtyRegions.computeIfAbsent(chunk.getWorldName(), k -> ConcurrentHashMap.newKeySet())
+                .add(ChunkCoordinate.toKey(chunk.getX() >> 5, chunk.getZ() >> 5));
+    }
+    
+    /**
+     * Take and clear the regions with claim changes since the last call, per world.
+     * Region keys pack chunk coordinates shifted right by 5.
+     */
+    public Map<String, Set<Long>> drainDirtyRegions() {
+        Map<String, Set<Long>> drained = new HashMap<>();
+        for (Map.Entry<String, Set<Long>> entry : dirtyRegions.entrySet()) {
+            Set<Long> regions = new HashSet<>();
+            for (Long region : entry.getValue()) {
+                if (entry.getValue().remove(region)) {
+                    regions.add(region);
+                }
+            }
+            if (!regions.isEmpty()) {
+                drained.put(entry.getKey(), regions);
+            }
+        }
+        return drained;
+    }
+    
     /**
      * Save a territory to storage
      */
@@ -684,6 +740,13 @@ public class TerritoryManager {
         return claimLimits;
     }
     
+    /**
+     * Get chunk claim index
+     */
+    public ClaimIndex getClaimIndex() {
+        return claimIndex;
+    }
+    
     /**
      * Get border visualizer
      */
@@ -691,6 +754,26 @@ public class TerritoryManager {
         return borderVisualizer;
     }
     
+    public TerritoryMapRenderer getMapRenderer() {
+        return mapRenderer;
+    }
+    
+    public ActivityHeatmap getActivityHeatmap() {
+        return activityHeatmap;
+    }
+    
+    public ProtectionEngine getProtectionEngine() {
+        return protectionEngine;
+    }
+    
+    public TerritoryTracker getTerritoryTracker() {
+        return territoryTracker;
+    }
+    
+    public SelectionTool getSelectionTool() {
+        return selectionTool;
+    }
+    
     /**
      * Get statistics about territories
      */
@@ -706,14 +789,14 @@ public class TerritoryManager {
                 .sum();
         
         stats.put("total_territories", territories.size());
-        stats.put("total_chunks_claimed", chunkClaims.size());
+        stats.put("total_chunks_claimed", claimIndex.size());
         stats.put("total_sub_areas", totalSubAreas);
         stats.put("total_trusted_players", totalTrustedPlayers);
         stats.put("active_territories", territories.values().stream()
                 .mapToInt(territory -> territory.isActive() ? 1 : 0)
                 .sum());
         stats.put("average_chunks_per_territory", 
-                territories.isEmpty() ? 0 : (double) chunkClaims.size() / territories.size());
+                territories.isEmpty() ? 0 : (double) claimIndex.size() / territories.size());
         
         return stats;
     }
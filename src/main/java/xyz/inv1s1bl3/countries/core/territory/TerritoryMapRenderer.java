@@ -0,0 +1,209 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders the chat map shown by /territory map.
+ * Claim owners are read from the claim index once and cached in 16-chunk row
+ * segments aligned to region boundaries, so any map position reuses the same
+ * segments; claim changes only drop the segment holding the changed chunk.
+ * Countries get a symbol and colour per rendered map in first-seen order, so
+ * no two countries on one map look alike; every run of one symbol is an
+ * interned component, so rendering only assembles cached components.
+ */
+public class TerritoryMapRenderer {
+
+    private static final int MAX_WIDTH = 63;
+    private static final int MAX_HEIGHT = 21;
+    private static final int SEGMENT_WIDTH = 16;
+    private static final int MAX_CACHED_SEGMENTS = 65536;
+
+    private static final char[] SYMBOLS = "#%&$@*=?ABCDEFGHKMNPRSTUVWXYZ".toCharArray();
+    private static final NamedTextColor[] COLORS = {
+            NamedTextColor.RED, NamedTextColor.GOLD, NamedTextColor.YELLOW, NamedTextColor.GREEN,
+            NamedTextColor.AQUA, NamedTextColor.BLUE, NamedTextColor.LIGHT_PURPLE, NamedTextColor.DARK_GREEN,
+            NamedTextColor.DARK_AQUA, NamedTextColor.DARK_PURPLE, NamedTextColor.DARK_RED
+    };
+
+    private static final int PALETTE_SIZE = SYMBOLS.length * COLORS.length; // Symbol and colour counts are coprime
+    private static final int WILDERNESS = PALETTE_SIZE;
+    private static final char WILDERNESS_SYMBOL = '-';
+    private static final Component PLAYER_MARKER = Component.text("+", NamedTextColor.WHITE, TextDecoration.BOLD);
+    private static final Component LEGEND_BASE = Component.text()
+            .append(Component.text("+", NamedTextColor.WHITE, TextDecoration.BOLD))
+            .append(Component.text(" You  ", NamedTextColor.GRAY))
+            .append(Component.text(WILDERNESS_SYMBOL, NamedTextColor.DARK_GRAY))
+            .append(Component.text(" Wilderness", NamedTextColor.GRAY))
+            .build();
+    private static final Component SEPARATOR = Component.text("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            NamedTextColor.DARK_GRAY, TextDecoration.BOLD);
+
+    private final CountriesPlugin plugin;
+    private final Map<String, Map<Long, String[]>> segmentCache; // World -> segment key -> country per column
+    private final Map<String, Component> legendNames; // Country name -> legend text after the symbol
+    private final Component[][] runs; // Palette index -> run length -> run component
+
+    public TerritoryMapRenderer(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.segmentCache = new ConcurrentHashMap<>();
+        this.legendNames = new ConcurrentHashMap<>();
+        this.runs = new Component[PALETTE_SIZE + 1][MAX_WIDTH + 1];
+    }
+
+    /**
+     * Render the map around a player and send it
+     */
+    public void sendMap(Player player) {
+        int width = clampOdd(plugin.getConfigManager().getConfig().getInt("territory.map.width", 31), MAX_WIDTH);
+        int height = clampOdd(plugin.getConfigManager().getConfig().getInt("territory.map.height", 11), MAX_HEIGHT);
+
+        Location location = player.getLocation();
+        String worldName = location.getWorld().getName();
+        int centerX = location.getBlockX() >> 4;
+        int centerZ = location.getBlockZ() >> 4;
+        int halfWidth = width / 2;
+        int halfHeight = height / 2;
+
+        Territory here = plugin.getTerritoryManager().getTerritoryAt(worldName, centerX, centerZ);
+
+        TextComponent.Builder map = Component.text();
+        map.append(SEPARATOR).append(Component.newline());
+        map.append(Component.text("Territory Map ", NamedTextColor.GOLD, TextDecoration.BOLD))
+                .append(Component.text("(" + centerX + ", " + centerZ + ") ", NamedTextColor.GRAY))
+                .append(here != null
+                        ? Component.text(here.getName() + " - " + here.getCountryName(), NamedTextColor.YELLOW)
+                        : Component.text("Wilderness", NamedTextColor.DARK_GRAY))
+                .append(Component.newline());
+
+        Map<String, Integer> palette = new LinkedHashMap<>(); // Country name -> palette index, first seen first
+        for (int chunkZ = centerZ - halfHeight; chunkZ <= centerZ + halfHeight; chunkZ++) {
+            if (chunkZ == centerZ) {
+                appendRow(map, palette, worldName, chunkZ, centerX - halfWidth, halfWidth);
+                map.append(PLAYER_MARKER);
+                appendRow(map, palette, worldName, chunkZ, centerX + 1, halfWidth);
+            } else {
+                appendRow(map, palette, worldName, chunkZ, centerX - halfWidth, width);
+            }
+            map.append(Component.newline());
+        }
+
+        map.append(LEGEND_BASE);
+        for (Map.Entry<String, Integer> entry : palette.entrySet()) {
+            map.append(Component.newline())
+                    .append(getRun(entry.getValue(), 1))
+                    .append(legendNames.computeIfAbsent(entry.getKey(),
+                            country -> Component.text(" " + country, NamedTextColor.GRAY)));
+        }
+        map.append(Component.newline()).append(SEPARATOR);
+
+        player.sendMessage(map.build());
+    }
+
+    /**
+     * Drop the cached segment that holds a chunk
+     */
+    public void invalidate(String worldName, int chunkX, int chunkZ) {
+        Map<Long, String[]> segments = segmentCache.get(worldName);
+        if (segments != null) {
+            segments.remove(ChunkCoordinate.toKey(chunkX >> 4, chunkZ));
+        }
+    }
+
+    /**
+     * Drop all cached segments
+     */
+    public void clear() {
+        segmentCache.clear();
+    }
+
+    /**
+     * Get the country owning each chunk of the aligned segment holding a chunk
+     */
+    private String[] getSegment(String worldName, int chunkX, int chunkZ) {
+        Map<Long, String[]> segments = segmentCache.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>());
+        long key = ChunkCoordinate.toKey(chunkX >> 4, chunkZ);
+
+        String[] segment = segments.get(key);
+        if (segment == null) {
+            if (segments.size() >= MAX_CACHED_SEGMENTS) {
+                segments.clear();
+            }
+
+            int startX = chunkX & ~(SEGMENT_WIDTH - 1);
+            segment = new String[SEGMENT_WIDTH];
+            for (int column = 0; column < SEGMENT_WIDTH; column++) {
+                Territory territory = plugin.getTerritoryManager().getTerritoryAt(worldName, startX + column, chunkZ);
+                segment[column] = territory != null ? territory.getCountryName() : null;
+            }
+            segments.put(key, segment);
+        }
+        return segment;
+    }
+
+    /**
+     * Append a row from the cached segments, one interned component per run of
+     * the same country; countries not yet on the map take the next palette index
+     */
+    private void appendRow(TextComponent.Builder map, Map<String, Integer> palette,
+                           String worldName, int chunkZ, int startX, int width) {
+        int runIndex = -1;
+        int runLength = 0;
+        String[] segment = null;
+
+        for (int chunkX = startX; chunkX < startX + width; chunkX++) {
+            int column = chunkX & (SEGMENT_WIDTH - 1);
+            if (segment == null || column == 0) {
+                segment = getSegment(worldName, chunkX, chunkZ);
+            }
+            String country = segment[column];
+            int index = WILDERNESS;
+            if (country != null) {
+                Integer assigned = palette.get(country);
+                if (assigned == null) {
+                    assigned = palette.size() % PALETTE_SIZE;
+                    palette.put(country, assigned);
+                }
+                index = assigned;
+            }
+
+            if (runLength > 0 && index != runIndex) {
+                map.append(getRun(runIndex, runLength));
+                runLength = 0;
+            }
+            runIndex = index;
+            runLength++;
+        }
+
+        if (runLength > 0) {
+            map.append(getRun(runIndex, runLength));
+        }
+    }
+
+    /**
+     * Get the component for a run of one palette entry, building it on first use
+     */
+    private Component getRun(int index, int length) {
+        Component run = runs[index][length];
+        if (run == null) {
+            char symbol = index == WILDERNESS ? WILDERNESS_SYMBOL : SYMBOLS[index % SYMBOLS.length];
+            NamedTextColor color = index == WILDERNESS ? NamedTextColor.DARK_GRAY : COLORS[index % COLORS.length];
+            run = Component.text(String.valueOf(symbol).repeat(length), color);
+            runs[index][length] = run;
+        }
+        return run;
+    }
+
+    private static int clampOdd(int value, int max) {
+        int clamped = Math.max(5, Math.min(max, value));
+        return clamped % 2 == 0 ? clamped - 1 : clamped;
+    }
+}
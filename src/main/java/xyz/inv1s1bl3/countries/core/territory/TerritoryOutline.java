@@ -0,0 +1,317 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import java.util.*;
+
+/**
+ * Traces the outline of a set of chunks as closed polygon rings.
+ * Boundary edges are kept up to date per chunk change, and only the rings
+ * touching the changed neighborhood are re-traced on the next request.
+ * Ring vertices are in chunk-grid units (multiply by 16 for block coordinates).
+ */
+public class TerritoryOutline {
+
+    // Directions in tracing order: +X, +Z, -X, -Z
+    private static final int[] DX = {1, 0, -1, 0};
+    private static final int[] DZ = {0, 1, 0, -1};
+
+    // Start vertex offset of the edge on each side of a chunk
+    private static final int[] SIDE_X = {0, 1, 1, 0};
+    private static final int[] SIDE_Z = {0, 0, 1, 1};
+
+    // Neighbor offset on each side of a chunk
+    private static final int[] NEIGHBOR_X = {0, 1, 0, -1};
+    private static final int[] NEIGHBOR_Z = {-1, 0, 1, 0};
+
+    private final Set<Long> cells;
+    private final Map<Long, Integer> edges; // Vertex key -> outgoing direction mask
+    private final Map<Long, Ring> edgeRings; // Edge key -> ring the edge was traced into
+    private final Set<Long> untracedEdges;
+    private final Set<Ring> rings;
+    private List<Ring> cachedRings; // Null when the edges changed since the last trace
+
+    public TerritoryOutline() {
+        this.cells = new HashSet<>();
+        this.edges = new HashMap<>();
+        this.edgeRings = new HashMap<>();
+        this.untracedEdges = new HashSet<>();
+        this.rings = new LinkedHashSet<>();
+        this.cachedRings = Collections.emptyList();
+    }
+
+    /**
+     * Build an outline for an arbitrary set of chunks
+     */
+    public static TerritoryOutline of(Collection<ChunkCoordinate> chunks) {
+        TerritoryOutline outline = new TerritoryOutline();
+        for (ChunkCoordinate chunk : chunks) {
+            outline.addChunk(chunk.getX(), chunk.getZ());
+        }
+        return outline;
+    }
+
+    /**
+     * Add a chunk and update the boundary edges around it
+     */
+    public synchronized boolean addChunk(int chunkX, int chunkZ) {
+        if (!cells.add(ChunkCoordinate.toKey(chunkX, chunkZ))) {
+            return false;
+        }
+
+        for (int side = 0; side < 4; side++) {
+            int neighborX = chunkX + NEIGHBOR_X[side];
+            int neighborZ = chunkZ + NEIGHBOR_Z[side];
+
+            if (cells.contains(ChunkCoordinate.toKey(neighborX, neighborZ))) {
+                removeEdge(neighborX, neighborZ, (side + 2) % 4);
+            } else {
+                addEdge(chunkX, chunkZ, side);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove a chunk and update the boundary edges around it
+     */
+    public synchronized boolean removeChunk(int chunkX, int chunkZ) {
+        if (!cells.remove(ChunkCoordinate.toKey(chunkX, chunkZ))) {
+            return false;
+        }
+
+        for (int side = 0; side < 4; side++) {
+            int neighborX = chunkX + NEIGHBOR_X[side];
+            int neighborZ = chunkZ + NEIGHBOR_Z[side];
+
+            if (cells.contains(ChunkCoordinate.toKey(neighborX, neighborZ))) {
+                addEdge(neighborX, neighborZ, (side + 2) % 4);
+            } else {
+                removeEdge(chunkX, chunkZ, side);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the outline rings, re-tracing only what changed since the last call
+     */
+    public synchronized List<Ring> getRings() {
+        if (cachedRings != null) {
+            return cachedRings;
+        }
+
+        while (!untracedEdges.isEmpty()) {
+            long startEdge = untracedEdges.iterator().next();
+            Ring ring = trace(startEdge);
+            if (ring != null) {
+                rings.add(ring);
+            }
+        }
+
+        cachedRings = Collections.unmodifiableList(new ArrayList<>(rings));
+        return cachedRings;
+    }
+
+    public synchronized int getChunkCount() {
+        return cells.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return cells.isEmpty();
+    }
+
+    private void addEdge(int chunkX, int chunkZ, int side) {
+        int vertexX = chunkX + SIDE_X[side];
+        int vertexZ = chunkZ + SIDE_Z[side];
+        long vertex = ChunkCoordinate.toKey(vertexX, vertexZ);
+
+        edges.merge(vertex, 1 << side, (a, b) -> a | b);
+        invalidateAround(vertexX, vertexZ);
+        untracedEdges.add(edgeKey(vertexX, vertexZ, side));
+        cachedRings = null;
+    }
+
+    private void removeEdge(int chunkX, int chunkZ, int side) {
+        int vertexX = chunkX + SIDE_X[side];
+        int vertexZ = chunkZ + SIDE_Z[side];
+        long vertex = ChunkCoordinate.toKey(vertexX, vertexZ);
+        long edge = edgeKey(vertexX, vertexZ, side);
+
+        invalidate(edgeRings.get(edge));
+        invalidateAround(vertexX, vertexZ);
+        untracedEdges.remove(edge);
+        cachedRings = null;
+
+        Integer mask = edges.get(vertex);
+        if (mask != null) {
+            int remaining = mask & ~(1 << side);
+            if (remaining == 0) {
+                edges.remove(vertex);
+            } else {
+                edges.put(vertex, remaining);
+            }
+        }
+    }
+
+    /**
+     * Invalidate every ring passing through a vertex, since the turn taken
+     * there may change once its outgoing edges change
+     */
+    private void invalidateAround(int vertexX, int vertexZ) {
+        for (int dir = 0; dir < 4; dir++) {
+            invalidate(edgeRings.get(edgeKey(vertexX, vertexZ, dir)));
+            invalidate(edgeRings.get(edgeKey(vertexX - DX[dir], vertexZ - DZ[dir], dir)));
+        }
+    }
+
+    private void invalidate(Ring ring) {
+        if (ring == null || !rings.remove(ring)) {
+            return;
+        }
+
+        for (long edge : ring.edges) {
+            edgeRings.remove(edge);
+            untracedEdges.add(edge);
+        }
+    }
+
+    /**
+     * Follow boundary edges from a starting edge until the ring closes
+     */
+    private Ring trace(long startEdge) {
+        int x = edgeX(startEdge);
+        int z = edgeZ(startEdge);
+        int dir = edgeDir(startEdge);
+
+        List<Long> path = new ArrayList<>();
+        List<int[]> corners = new ArrayList<>();
+
+        while (true) {
+            long edge = edgeKey(x, z, dir);
+            untracedEdges.remove(edge);
+            path.add(edge);
+
+            x += DX[dir];
+            z += DZ[dir];
+
+            int next = nextDirection(edges.get(ChunkCoordinate.toKey(x, z)), dir);
+            if (next < 0 || path.size() > edges.size() * 4) {
+                // Broken boundary, drop what was traced rather than loop forever
+                return null;
+            }
+
+            if (next != dir) {
+                corners.add(new int[]{x, z});
+            }
+
+            if (edgeKey(x, z, next) == startEdge) {
+                break;
+            }
+            dir = next;
+        }
+
+        long[] ringEdges = new long[path.size()];
+        for (int i = 0; i < ringEdges.length; i++) {
+            ringEdges[i] = path.get(i);
+        }
+
+        Ring ring = new Ring(corners, ringEdges);
+        for (long edge : ringEdges) {
+            edgeRings.put(edge, ring);
+        }
+        return ring;
+    }
+
+    /**
+     * Pick the outgoing edge at a vertex, preferring to turn towards the
+     * claimed side so diagonally touching chunks form separate rings
+     */
+    private static int nextDirection(Integer mask, int incoming) {
+        if (mask == null) {
+            return -1;
+        }
+
+        int[] preference = {(incoming + 1) % 4, incoming, (incoming + 3) % 4};
+        for (int dir : preference) {
+            if ((mask & (1 << dir)) != 0) {
+                return dir;
+            }
+        }
+        return -1;
+    }
+
+    private static long edgeKey(int vertexX, int vertexZ, int dir) {
+        return ((long) vertexX << 34) | (((long) vertexZ & 0xFFFFFFFFL) << 2) | dir;
+    }
+
+    private static int edgeX(long edge) {
+        return (int) (edge >> 34);
+    }
+
+    private static int edgeZ(long edge) {
+        return (int) (edge >> 2);
+    }
+
+    private static int edgeDir(long edge) {
+        return (int) (edge & 3);
+    }
+
+    /**
+     * A closed polygon ring. Outer boundaries wind positively in (x, z),
+     * holes wind negatively.
+     */
+    public static final class Ring {
+
+        private final int[] xs;
+        private final int[] zs;
+        private final long[] edges;
+        private final long signedArea;
+
+        private Ring(List<int[]> corners, long[] edges) {
+            this.xs = new int[corners.size()];
+            this.zs = new int[corners.size()];
+            for (int i = 0; i < corners.size(); i++) {
+                xs[i] = corners.get(i)[0];
+                zs[i] = corners.get(i)[1];
+            }
+            this.edges = edges;
+
+            long twiceArea = 0;
+            for (int i = 0; i < xs.length; i++) {
+                int j = (i + 1) % xs.length;
+                twiceArea += (long) xs[i] * zs[j] - (long) xs[j] * zs[i];
+            }
+            this.signedArea = twiceArea / 2;
+        }
+
+        public int size() {
+            return xs.length;
+        }
+
+        public int getX(int index) {
+            return xs[index];
+        }
+
+        public int getZ(int index) {
+            return zs[index];
+        }
+
+        public int getBlockX(int index) {
+            return xs[index] << 4;
+        }
+
+        public int getBlockZ(int index) {
+            return zs[index] << 4;
+        }
+
+        public boolean isHole() {
+            return signedArea < 0;
+        }
+
+        /**
+         * Get the enclosed area in chunks
+         */
+        public long getArea() {
+            return Math.abs(signedArea);
+        }
+    }
+}
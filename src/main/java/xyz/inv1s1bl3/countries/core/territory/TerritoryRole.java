@@ -17,12 +17,21 @@ public enum TerritoryRole {
     private final String displayName;
     private final int priority;
     private final Map<TerritoryFlag, Boolean> defaultFlags;
+    private final int defaultFlagMask;
     
     TerritoryRole(String displayName, int priority) {
         this.displayName = displayName;
         this.priority = priority;
         this.defaultFlags = new EnumMap<>(TerritoryFlag.class);
         initializeDefaultFlags();
+        
+        int mask = 0;
+        for (Map.Entry<TerritoryFlag, Boolean> entry : defaultFlags.entrySet()) {
+            if (entry.getValue()) {
+                mask |= entry.getKey().getMask();
+            }
+        }
+        this.defaultFlagMask = mask;
     }
     
     private void initializeDefaultFlags() {
@@ -94,8 +103,12 @@ public enum TerritoryRole {
         return new EnumMap<>(defaultFlags);
     }
     
+    public int getDefaultFlagMask() {
+        return defaultFlagMask;
+    }
+    
     public boolean hasFlag(TerritoryFlag flag) {
-        return defaultFlags.getOrDefault(flag, false);
+        return (defaultFlagMask & flag.getMask()) != 0;
     }
     
     /**
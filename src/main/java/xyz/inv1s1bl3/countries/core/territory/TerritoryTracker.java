@@ -0,0 +1,136 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.api.events.TerritoryEnterEvent;
+import xyz.inv1s1bl3.countries.api.events.TerritoryLeaveEvent;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
+import xyz.inv1s1bl3.countries.utils.ChatUtils;
+
+import java.time.Duration;
+
+/**
+ * Tracks which territory and sub-area each player is in.
+ * Fires {@link TerritoryEnterEvent}/{@link TerritoryLeaveEvent} only when the
+ * territory really changes and sends one title or action bar per transition,
+ * rate limited per player so border-walkers don't flood the connection.
+ */
+public class TerritoryTracker {
+
+    private static final Title.Times TITLE_TIMES =
+            Title.Times.times(Duration.ofMillis(250), Duration.ofMillis(1500), Duration.ofMillis(500));
+
+    private final CountriesPlugin plugin;
+    private volatile boolean notificationsEnabled;
+    private volatile boolean useTitle;
+    private volatile long cooldownMillis;
+
+    public TerritoryTracker(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.notificationsEnabled = true;
+        this.useTitle = false;
+        this.cooldownMillis = 1000L;
+    }
+
+    /**
+     * Re-read notification settings
+     */
+    public void reload() {
+        notificationsEnabled = plugin.getConfigManager().getConfig().getBoolean("territory.show-borders", true);
+        useTitle = "title".equalsIgnoreCase(
+                plugin.getConfigManager().getConfig().getString("territory.notifications.mode", "actionbar"));
+        cooldownMillis = Math.max(0L, plugin.getConfigManager().getConfig().getLong("territory.notifications.cooldown-ms", 1000L));
+    }
+
+    /**
+     * Handle a move into a new chunk
+     */
+    public void onChunkChange(Player player, PlayerSession session, Location to,
+                              String worldName, int chunkX, int chunkZ) {
+        Territory from = session.getCurrentTerritory();
+        Territory territory = plugin.getTerritoryManager().getTerritoryAt(worldName, chunkX, chunkZ);
+
+        if (territory != from) {
+            session.setCurrentTerritory(territory);
+            session.setCurrentSubArea(null);
+
+            if (from != null) {
+                Bukkit.getPluginManager().callEvent(new TerritoryLeaveEvent(player, from, territory));
+            }
+            if (territory != null) {
+                Bukkit.getPluginManager().callEvent(new TerritoryEnterEvent(player, territory, from));
+            }
+
+            notifyTerritoryChange(player, session, to, from, territory);
+        }
+
+        if (territory != null) {
+            territory.recordVisitor(player.getUniqueId());
+            onBlockChange(player, session, to);
+        }
+    }
+
+    /**
+     * Handle a move to another block within the current chunk
+     */
+    public void onBlockChange(Player player, PlayerSession session, Location to) {
+        Territory territory = session.getCurrentTerritory();
+        if (territory == null) {
+            return;
+        }
+
+        SubArea from = session.getCurrentSubArea();
+        SubArea subArea = territory.getSubAreaAt(to);
+        if (subArea == from) {
+            return;
+        }
+
+        session.setCurrentSubArea(subArea);
+        if (subArea != null) {
+            if (!subArea.getEnterMessage().isEmpty()) {
+                send(player, session, subArea.getEnterMessage());
+            }
+        } else if (!from.getLeaveMessage().isEmpty()) {
+            send(player, session, from.getLeaveMessage());
+        }
+    }
+
+    private void notifyTerritoryChange(Player player, PlayerSession session, Location location,
+                                       Territory from, Territory to) {
+        if (to != null) {
+            if (!to.hasFlag(TerritoryFlag.ENTER_MESSAGE)) {
+                return;
+            }
+
+            String message = to.getEnterMessage().isEmpty()
+                    ? "&7Entering &e" + to.getName() + " &7(" + to.getCountryName() + ")"
+                    : to.getEnterMessage();
+            if (!to.allowsPublicAccess() && !plugin.getTerritoryManager().canPlayerAccess(player, location)) {
+                message += " &c(private)";
+            }
+            send(player, session, message);
+        } else if (from.hasFlag(TerritoryFlag.LEAVE_MESSAGE)) {
+            String message = from.getLeaveMessage().isEmpty()
+                    ? "&7Leaving &e" + from.getName() + " &8- &2Wilderness"
+                    : from.getLeaveMessage();
+            send(player, session, message);
+        }
+    }
+
+    private void send(Player player, PlayerSession session, String message) {
+        if (!notificationsEnabled || !session.tryNotify(System.currentTimeMillis(), cooldownMillis)) {
+            return;
+        }
+
+        Component component = ChatUtils.toComponent(message);
+        if (useTitle) {
+            player.showTitle(Title.title(Component.empty(), component, TITLE_TIMES));
+        } else {
+            player.sendActionBar(component);
+        }
+    }
+}
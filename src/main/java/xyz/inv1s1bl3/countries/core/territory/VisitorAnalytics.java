@@ -0,0 +1,166 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import xyz.inv1s1bl3.countries.utils.HyperLogLog;
+
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unique visitor counts for a territory: all-time, today and the last 7 days.
+ * Each day gets its own sketch in a 7-slot ring that is only allocated on the
+ * first visit of that day; the weekly count merges the live slots.
+ */
+public class VisitorAnalytics {
+
+    private static final int DAYS = 7;
+
+    private final AtomicReference<HyperLogLog> allTime;
+    private final AtomicReferenceArray<DaySketch> days;
+
+    public VisitorAnalytics() {
+        this.allTime = new AtomicReference<>();
+        this.days = new AtomicReferenceArray<>(DAYS);
+    }
+
+    /**
+     * Record a visit; safe to call from any thread
+     */
+    public void recordVisit(UUID playerUUID) {
+        long today = currentDay();
+        getOrCreateAllTime().offer(playerUUID);
+        getOrCreateDay(today).sketch.offer(playerUUID);
+    }
+
+    /**
+     * Get the estimated number of distinct visitors ever
+     */
+    public long getUniqueVisitors() {
+        HyperLogLog sketch = allTime.get();
+        return sketch != null ? sketch.estimate() : 0;
+    }
+
+    /**
+     * Get the estimated number of distinct visitors today (UTC)
+     */
+    public long getDailyVisitors() {
+        long today = currentDay();
+        DaySketch day = days.get(slot(today));
+        return day != null && day.day == today ? day.sketch.estimate() : 0;
+    }
+
+    /**
+     * Get the estimated number of distinct visitors over the last 7 days
+     */
+    public long getWeeklyVisitors() {
+        long today = currentDay();
+        HyperLogLog[] live = new HyperLogLog[DAYS];
+        boolean any = false;
+
+        for (int i = 0; i < DAYS; i++) {
+            DaySketch day = days.get(i);
+            if (day != null && today - day.day < DAYS) {
+                live[i] = day.sketch;
+                any = true;
+            }
+        }
+        return any ? HyperLogLog.estimate(live) : 0;
+    }
+
+    /**
+     * Serialize as "allTime;day:sketch;day:sketch..." with base64 sketches
+     */
+    public String serialize() {
+        Base64.Encoder encoder = Base64.getEncoder();
+        HyperLogLog sketch = allTime.get();
+        StringBuilder builder = new StringBuilder(sketch != null ? encoder.encodeToString(sketch.toBytes()) : "");
+
+        long today = currentDay();
+        for (int i = 0; i < DAYS; i++) {
+            DaySketch day = days.get(i);
+            if (day != null && today - day.day < DAYS) {
+                builder.append(';').append(day.day).append(':').append(encoder.encodeToString(day.sketch.toBytes()));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Restore from {@link #serialize()} output; malformed parts are skipped
+     */
+    public static VisitorAnalytics deserialize(String data) {
+        VisitorAnalytics analytics = new VisitorAnalytics();
+        if (data == null || data.isEmpty()) {
+            return analytics;
+        }
+
+        Base64.Decoder decoder = Base64.getDecoder();
+        String[] parts = data.split(";");
+        try {
+            if (!parts[0].isEmpty()) {
+                analytics.allTime.set(HyperLogLog.fromBytes(decoder.decode(parts[0])));
+            }
+
+            for (int i = 1; i < parts.length; i++) {
+                int separator = parts[i].indexOf(':');
+                if (separator < 0) {
+                    continue;
+                }
+                long day = Long.parseLong(parts[i].substring(0, separator));
+                HyperLogLog sketch = HyperLogLog.fromBytes(decoder.decode(parts[i].substring(separator + 1)));
+                analytics.days.set(slot(day), new DaySketch(day, sketch));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Keep whatever parsed cleanly
+        }
+        return analytics;
+    }
+
+    private HyperLogLog getOrCreateAllTime() {
+        HyperLogLog sketch = allTime.get();
+        if (sketch == null) {
+            allTime.compareAndSet(null, new HyperLogLog());
+            sketch = allTime.get();
+        }
+        return sketch;
+    }
+
+    private DaySketch getOrCreateDay(long today) {
+        int slot = slot(today);
+        while (true) {
+            DaySketch current = days.get(slot);
+            if (current != null && current.day == today) {
+                return current;
+            }
+
+            // A slot from a week ago is recycled for today
+            DaySketch fresh = new DaySketch(today, new HyperLogLog());
+            if (days.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static int slot(long day) {
+        return (int) Math.floorMod(day, (long) DAYS);
+    }
+
+    private static long currentDay() {
+        return System.currentTimeMillis() / 86_400_000L;
+    }
+
+    /**
+     * Sketch of the visitors of a single day
+     */
+    private static final class DaySketch {
+
+        private final long day;
+        private final HyperLogLog sketch;
+
+        private DaySketch(long day, HyperLogLog sketch) {
+            this.day = day;
+            this.sketch = sketch;
+        }
+    }
+}
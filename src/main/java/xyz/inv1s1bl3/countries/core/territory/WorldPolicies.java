@@ -0,0 +1,163 @@
+package xyz.inv1s1bl3.countries.core.territory;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-world territory policy (claims, protection, wilderness building).
+ * Resolved from config once into a byte per loaded world; a world's id is
+ * its position in the table, found by reference comparison, so listeners
+ * can bail out in unclaimable worlds without any map or config lookups.
+ */
+public class WorldPolicies {
+
+    public static final int CLAIMS = 1;
+    public static final int PROTECTION = 1 << 1;
+    public static final int WILDERNESS_BUILDING = 1 << 2;
+
+    private final CountriesPlugin plugin;
+    private volatile Table table;
+
+    public WorldPolicies(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.table = new Table(new World[0], new byte[0]);
+    }
+
+    /**
+     * Re-resolve the policy of every loaded world from config
+     */
+    public synchronized void reload() {
+        List<World> loaded = Bukkit.getWorlds();
+        World[] worlds = new World[loaded.size()];
+        byte[] policies = new byte[loaded.size()];
+        for (int id = 0; id < worlds.length; id++) {
+            worlds[id] = loaded.get(id);
+            policies[id] = resolve(worlds[id].getName());
+        }
+        table = new Table(worlds, policies);
+    }
+
+    /**
+     * Add a world that was loaded after the last reload
+     */
+    public synchronized void worldLoaded(World world) {
+        Table current = table;
+        for (World known : current.worlds) {
+            if (known == world) {
+                return;
+            }
+        }
+
+        World[] worlds = Arrays.copyOf(current.worlds, current.worlds.length + 1);
+        byte[] policies = Arrays.copyOf(current.policies, current.policies.length + 1);
+        worlds[worlds.length - 1] = world;
+        policies[policies.length - 1] = resolve(world.getName());
+        table = new Table(worlds, policies);
+    }
+
+    /**
+     * Drop an unloaded world so the table holds no stale references
+     */
+    public synchronized void worldUnloaded(World world) {
+        Table current = table;
+        int length = current.worlds.length;
+        for (int id = 0; id < length; id++) {
+            if (current.worlds[id] == world) {
+                World[] worlds = new World[length - 1];
+                byte[] policies = new byte[length - 1];
+                System.arraycopy(current.worlds, 0, worlds, 0, id);
+                System.arraycopy(current.policies, 0, policies, 0, id);
+                System.arraycopy(current.worlds, id + 1, worlds, id, length - id - 1);
+                System.arraycopy(current.policies, id + 1, policies, id, length - id - 1);
+                table = new Table(worlds, policies);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the policy bits of a world
+     */
+    public int getPolicy(World world) {
+        Table current = table;
+        World[] worlds = current.worlds;
+        for (int id = 0; id < worlds.length; id++) {
+            if (worlds[id] == world) {
+                return current.policies[id];
+            }
+        }
+
+        // Loaded after the last reload; resolve without caching until the table is rebuilt
+        return resolve(world.getName());
+    }
+
+    /**
+     * Check whether territories can be claimed in a world
+     */
+    public boolean isClaimingAllowed(World world) {
+        return (getPolicy(world) & CLAIMS) != 0;
+    }
+
+    /**
+     * Check whether protection is enforced in a world
+     */
+    public boolean isProtected(World world) {
+        return (getPolicy(world) & PROTECTION) != 0;
+    }
+
+    /**
+     * Check whether anyone may build in the wilderness of a world
+     */
+    public boolean isWildernessBuildingAllowed(World world) {
+        return (getPolicy(world) & WILDERNESS_BUILDING) != 0;
+    }
+
+    /**
+     * Resolve a world's policy from the territory settings and its override section
+     */
+    private byte resolve(String worldName) {
+        FileConfiguration config = plugin.getConfigManager().getConfig();
+        boolean claims = true;
+        boolean protection = config.getBoolean("territory.enable-protection", true);
+        boolean wildernessBuilding = config.getBoolean("territory.allow-wilderness-claims", true);
+
+        ConfigurationSection section = config.getConfigurationSection("territory.worlds." + worldName);
+        if (section != null) {
+            claims = section.getBoolean("claims", claims);
+            protection = protection && section.getBoolean("protection", true);
+            wildernessBuilding = section.getBoolean("wilderness-building", wildernessBuilding);
+        }
+
+        int policy = 0;
+        if (claims) {
+            policy |= CLAIMS;
+        }
+        if (protection) {
+            policy |= PROTECTION;
+        }
+        if (wildernessBuilding) {
+            policy |= WILDERNESS_BUILDING;
+        }
+        return (byte) policy;
+    }
+
+    /**
+     * Parallel arrays of loaded worlds and their policies, replaced as a whole
+     */
+    private static final class Table {
+
+        private final World[] worlds;
+        private final byte[] policies;
+
+        private Table(World[] worlds, byte[] policies) {
+            this.worlds = worlds;
+            this.policies = policies;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package xyz.inv1s1bl3.countries.gui;
 
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -11,9 +10,6 @@ import xyz.inv1s1bl3.countries.CountriesPlugin;
 import xyz.inv1s1bl3.countries.core.territory.*;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Handles GUI click events for territory management.
  */
@@ -316,13 +312,7 @@ public class TerritoryGUIListener implements Listener {
     }
     
     private ItemStack createSelectionTool() {
-        ItemStack tool = new ItemStack(Material.GOLDEN_AXE);
-        tool.getItemMeta().setDisplayName(ChatUtils.colorize("&6Territory Selection Tool"));
-        List<String> lore = new ArrayList<>();
-        lore.add(ChatUtils.colorize("&7Left-click to set corner 1"));
-        lore.add(ChatUtils.colorize("&7Right-click to set corner 2"));
-        tool.getItemMeta().setLore(lore);
-        return tool;
+        return plugin.getTerritoryManager().getSelectionTool().create();
     }
     
     public TerritoryGUI getTerritoryGUI() {
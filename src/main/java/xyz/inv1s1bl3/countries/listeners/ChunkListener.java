@@ -1,21 +1,55 @@
 package xyz.inv1s1bl3.countries.listeners;
 
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.player.PlayerToggleFlightEvent;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.law.JailRegion;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
+import xyz.inv1s1bl3.countries.core.territory.ProtectionEngine;
 import xyz.inv1s1bl3.countries.core.territory.Territory;
+import xyz.inv1s1bl3.countries.core.territory.TerritoryFlag;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Handles chunk-related events for territory protection.
  */
 public class ChunkListener implements Listener {
     
+    private static final Set<Material> CONTAINERS = EnumSet.noneOf(Material.class);
+    
+    static {
+        for (Material material : Material.values()) {
+            String name = material.name();
+            if (name.startsWith("LEGACY_") || material == Material.ENDER_CHEST) {
+                continue;
+            }
+            if (name.endsWith("CHEST") || name.endsWith("SHULKER_BOX") || name.endsWith("FURNACE")
+                    || name.equals("BARREL") || name.equals("SMOKER") || name.equals("HOPPER")
+                    || name.equals("DROPPER") || name.equals("DISPENSER") || name.equals("BREWING_STAND")
+                    || name.equals("CRAFTER") || name.equals("DECORATED_POT") || name.equals("CHISELED_BOOKSHELF")) {
+                CONTAINERS.add(material);
+            }
+        }
+    }
+    
     private final CountriesPlugin plugin;
     
     public ChunkListener(CountriesPlugin plugin) {
@@ -24,131 +58,245 @@ public class ChunkListener implements Listener {
     
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
-        var player = event.getPlayer();
-        var location = event.getBlock().getLocation();
-        
-        // Check if protection is enabled
-        if (!plugin.getConfigManager().getConfig().getBoolean("territory.enable-protection", true)) {
+        Block block = event.getBlock();
+        Location location = block.getLocation();
+        Territory territory = plugin.getTerritoryManager().getTerritoryAt(location);
+        if (deny(event.getPlayer(), territory, location, TerritoryFlag.BUILD)) {
+            event.setCancelled(true);
             return;
         }
         
-        // Check if player can build at this location
-        if (!plugin.getTerritoryManager().canPlayerBuild(player, location)) {
-            Territory territory = plugin.getTerritoryManager().getTerritoryAt(location);
-            if (territory != null) {
-                ChatUtils.sendPrefixedConfigMessage(player, "territory.protected", territory.getCountryName());
-            } else {
-                ChatUtils.sendError(player, "You cannot build in this area!");
-            }
+        recordActivity(block, territory);
+    }
+    
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlock();
+        Location location = block.getLocation();
+        Territory territory = plugin.getTerritoryManager().getTerritoryAt(location);
+        if (deny(event.getPlayer(), territory, location, TerritoryFlag.BUILD)) {
             event.setCancelled(true);
+            return;
         }
+        
+        recordActivity(block, territory);
     }
     
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onBlockPlace(BlockPlaceEvent event) {
-        var player = event.getPlayer();
-        var location = event.getBlock().getLocation();
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        var block = event.getClickedBlock();
+        
+        if (block == null) return;
         
-        // Check if protection is enabled
-        if (!plugin.getConfigManager().getConfig().getBoolean("territory.enable-protection", true)) {
+        // Selection clicks are not interactions with the block
+        if (plugin.getTerritoryManager().getSelectionTool().isSelectionTool(event.getItem())) {
+            event.setCancelled(true);
+            handleSelection(event.getPlayer(), event.getAction(), block.getLocation());
             return;
         }
         
-        // Check if player can build at this location
-        if (!plugin.getTerritoryManager().canPlayerBuild(player, location)) {
-            Territory territory = plugin.getTerritoryManager().getTerritoryAt(location);
-            if (territory != null) {
-                ChatUtils.sendPrefixedConfigMessage(player, "territory.protected", territory.getCountryName());
-            } else {
-                ChatUtils.sendError(player, "You cannot build in this area!");
-            }
+        // One claim lookup serves the interact and container checks and the heatmap
+        Location location = block.getLocation();
+        Territory territory = plugin.getTerritoryManager().getTerritoryAt(location);
+        if (deny(event.getPlayer(), territory, location, TerritoryFlag.INTERACT)) {
             event.setCancelled(true);
+            return;
         }
+        
+        if (event.getAction() == Action.RIGHT_CLICK_BLOCK && CONTAINERS.contains(block.getType())
+                && deny(event.getPlayer(), territory, location, TerritoryFlag.CONTAINER_ACCESS)) {
+            event.setCancelled(true);
+            return;
+        }
+        
+        recordActivity(block, territory);
     }
     
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onPlayerInteract(PlayerInteractEvent event) {
-        var player = event.getPlayer();
-        var block = event.getClickedBlock();
+    public void onItemPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player player)) return;
         
-        if (block == null) return;
+        // Fires every tick near farms; cancel silently without a message.
+        // Decided where the item lies, which may be across a border from the player
+        if (plugin.getTerritoryManager().getProtectionEngine()
+                .checkProtected(player, event.getItem().getLocation(), TerritoryFlag.ITEM_PICKUP) != null) {
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onItemDrop(PlayerDropItemEvent event) {
+        var player = event.getPlayer();
+        ProtectionEngine.Denial denial = plugin.getTerritoryManager().getProtectionEngine()
+                .checkProtected(player, player.getLocation(), TerritoryFlag.ITEM_DROP);
+        if (denial != null) {
+            denial.send(player);
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onToggleFlight(PlayerToggleFlightEvent event) {
+        if (!event.isFlying() || !isFlightRestricted(event.getPlayer())) return;
         
-        var location = block.getLocation();
+        var player = event.getPlayer();
+        ProtectionEngine.Denial denial = plugin.getTerritoryManager().getProtectionEngine()
+                .checkProtected(player, player.getLocation(), TerritoryFlag.FLY);
+        if (denial != null) {
+            denial.send(player);
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        var to = event.getTo();
+        if (to == null) return;
         
-        // Check if protection is enabled
-        if (!plugin.getConfigManager().getConfig().getBoolean("territory.enable-protection", true)) {
+        // Prisoners cannot teleport out of jail by any means, but are always let in
+        PlayerSession session = plugin.getSessionManager().getSession(event.getPlayer());
+        JailRegion jail = session != null ? session.getJail() : null;
+        if (jail != null) {
+            if (!jail.contains(to)) {
+                ChatUtils.sendPrefixedConfigMessage(event.getPlayer(), "law.jail-escape");
+                event.setCancelled(true);
+            }
             return;
         }
         
-        // Check if player can access this location
-        if (!plugin.getTerritoryManager().canPlayerAccess(player, location)) {
-            Territory territory = plugin.getTerritoryManager().getTerritoryAt(location);
-            if (territory != null) {
-                ChatUtils.sendPrefixedConfigMessage(player, "territory.protected", territory.getCountryName());
-            } else {
-                ChatUtils.sendError(player, "You cannot access this area!");
+        switch (event.getCause()) {
+            case COMMAND, PLUGIN, ENDER_PEARL, CHORUS_FRUIT -> {
             }
+            default -> {
+                // Portals, gateways and the like are not player-directed teleports
+                return;
+            }
+        }
+        
+        ProtectionEngine.Denial denial = plugin.getTerritoryManager().getProtectionEngine()
+                .checkProtected(event.getPlayer(), to, TerritoryFlag.TELEPORT);
+        if (denial != null) {
+            denial.send(event.getPlayer());
             event.setCancelled(true);
         }
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
-    public void onPlayerMove(PlayerMoveEvent event) {
-        var player = event.getPlayer();
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onConfinedMove(PlayerMoveEvent event) {
         var from = event.getFrom();
         var to = event.getTo();
+        if (to == null || (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ())) {
+            return;
+        }
         
-        if (to == null) return;
+        PlayerSession session = plugin.getSessionManager().getSession(event.getPlayer());
+        JailRegion jail = session != null ? session.getJail() : null;
+        if (jail == null || jail.contains(to)) return;
         
-        // Check if player moved to a different chunk
-        if (from.getChunk().equals(to.getChunk())) {
+        if (jail.contains(from)) {
+            // Hold the player at the wall
+            event.setCancelled(true);
             return;
         }
         
-        Territory fromTerritory = plugin.getTerritoryManager().getTerritoryAt(from);
-        Territory toTerritory = plugin.getTerritoryManager().getTerritoryAt(to);
+        // Somehow outside, e.g. after respawning; put them back
+        Location spawn = jail.getSpawnLocation();
+        if (spawn != null) {
+            event.setCancelled(true);
+            event.getPlayer().teleport(spawn);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        var to = event.getTo();
+        if (to == null) return;
+        
+        var player = event.getPlayer();
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        if (session == null) return;
         
-        // Show territory borders if enabled
-        if (plugin.getConfigManager().getConfig().getBoolean("territory.show-borders", true)) {
-            showTerritoryInfo(player, fromTerritory, toTerritory);
+        // Compare block-derived chunk coordinates against the session; no chunk lookups
+        String worldName = to.getWorld().getName();
+        int chunkX = to.getBlockX() >> 4;
+        int chunkZ = to.getBlockZ() >> 4;
+        if (session.moveTo(worldName, chunkX, chunkZ)) {
+            plugin.getTerritoryManager().getTerritoryTracker()
+                    .onChunkChange(player, session, to, worldName, chunkX, chunkZ);
+            
+            // Flying into a territory without the FLY flag grounds the player
+            Territory territory = session.getCurrentTerritory();
+            if (territory != null && player.isFlying() && isFlightRestricted(player)
+                    && plugin.getTerritoryManager().getProtectionEngine()
+                        .checkProtected(player, to, TerritoryFlag.FLY) != null) {
+                player.setFlying(false);
+            }
+            return;
         }
         
-        // Update territory visitor count
-        if (toTerritory != null) {
-            toTerritory.incrementVisitors();
+        // Sub-areas only matter inside a territory and when the block changed
+        var from = event.getFrom();
+        if (session.getCurrentTerritory() != null
+                && (from.getBlockX() != to.getBlockX() || from.getBlockY() != to.getBlockY()
+                    || from.getBlockZ() != to.getBlockZ())) {
+            plugin.getTerritoryManager().getTerritoryTracker().onBlockChange(player, session, to);
         }
     }
     
     /**
-     * Show territory information when crossing borders
+     * Set a selection corner with the selection tool and show the selection
      */
-    private void showTerritoryInfo(org.bukkit.entity.Player player, Territory from, Territory to) {
-        if (from == to) return; // Same territory
-        
-        if (to == null) {
-            // Entering wilderness
-            if (from != null) {
-                ChatUtils.sendInfo(player, "Leaving " + from.getName() + " (" + from.getCountryName() + ")");
-                ChatUtils.sendInfo(player, "Entering wilderness");
-            }
+    private void handleSelection(Player player, Action action, Location location) {
+        boolean first;
+        if (action == Action.LEFT_CLICK_BLOCK) {
+            first = true;
+        } else if (action == Action.RIGHT_CLICK_BLOCK) {
+            first = false;
         } else {
-            // Entering a territory
-            if (from == null) {
-                ChatUtils.sendInfo(player, "Leaving wilderness");
-            } else {
-                ChatUtils.sendInfo(player, "Leaving " + from.getName() + " (" + from.getCountryName() + ")");
-            }
-            
-            ChatUtils.sendInfo(player, "Entering " + to.getName() + " (" + to.getCountryName() + ")");
-            
-            // Show access status
-            if (!to.allowsPublicAccess()) {
-                if (plugin.getTerritoryManager().canPlayerAccess(player, player.getLocation())) {
-                    ChatUtils.sendInfo(player, "&aYou have access to this territory");
-                } else {
-                    ChatUtils.sendWarning(player, "&cThis is a private territory");
-                }
-            }
+            return;
+        }
+        
+        plugin.getTerritoryManager().setSelectionCorner(player, location, first);
+        ChatUtils.sendSuccess(player, "Corner " + (first ? 1 : 2) + " set at " + 
+                location.getBlockX() + ", " + location.getBlockY() + ", " + location.getBlockZ());
+        
+        // Show selection visualization once both corners are set
+        var corners = plugin.getTerritoryManager().getPlayerSelection(player);
+        Location other = first ? corners[1] : corners[0];
+        if (other != null) {
+            plugin.getTerritoryManager().getBorderVisualizer().showSelection(player,
+                    first ? location : other, first ? other : location);
         }
     }
+    
+    /**
+     * Creative and spectator flight is never restricted
+     */
+    private boolean isFlightRestricted(Player player) {
+        GameMode gameMode = player.getGameMode();
+        return gameMode == GameMode.SURVIVAL || gameMode == GameMode.ADVENTURE;
+    }
+    
+    /**
+     * Run a protection check in an already resolved territory and tell the player if it was denied
+     */
+    private boolean deny(Player player, Territory territory, Location location, TerritoryFlag flag) {
+        ProtectionEngine.Denial denial = plugin.getTerritoryManager().getProtectionEngine()
+                .checkProtected(player, territory, location, flag);
+        if (denial == null) {
+            return false;
+        }
+        
+        denial.send(player);
+        return true;
+    }
+    
+    /**
+     * Feed a block action into the chunk activity heatmap, reusing the territory the check resolved
+     */
+    private void recordActivity(Block block, Territory territory) {
+        plugin.getTerritoryManager().getActivityHeatmap()
+                .record(territory, block.getWorld().getName(), block.getX() >> 4, block.getZ() >> 4);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package xyz.inv1s1bl3.countries.listeners;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Animals;
+import org.bukkit.entity.Enemy;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.entity.WaterMob;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.diplomacy.RelationType;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
+import xyz.inv1s1bl3.countries.core.territory.ProtectionEngine;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
+import xyz.inv1s1bl3.countries.core.territory.TerritoryFlag;
+
+/**
+ * Enforces PvP and entity damage flags.
+ * Player-vs-player decisions use the country ids cached in the sessions and
+ * the dense relation matrix, so no relation keys are built per hit.
+ */
+public class CombatListener implements Listener {
+
+    private final CountriesPlugin plugin;
+
+    public CombatListener(CountriesPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
+        Player attacker = getAttackingPlayer(event.getDamager());
+        if (attacker == null) {
+            return;
+        }
+
+        ProtectionEngine protectionEngine = plugin.getTerritoryManager().getProtectionEngine();
+        Entity victim = event.getEntity();
+        if (!protectionEngine.isProtectionEnabled(victim.getWorld())) {
+            return;
+        }
+
+        if (victim instanceof Player) {
+            if (victim != attacker && !canAttackPlayer(attacker, (Player) victim)) {
+                protectionEngine.getDenialMessages().sendPvpDenied(attacker);
+                event.setCancelled(true);
+            }
+            return;
+        }
+
+        TerritoryFlag flag;
+        if (victim instanceof Enemy) {
+            flag = TerritoryFlag.DAMAGE_MONSTERS;
+        } else if (victim instanceof Animals || victim instanceof WaterMob) {
+            flag = TerritoryFlag.DAMAGE_ANIMALS;
+        } else {
+            return;
+        }
+
+        ProtectionEngine.Denial denial = protectionEngine.check(attacker, victim.getLocation(), flag);
+        if (denial != null) {
+            denial.send(attacker);
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Decide PvP from diplomacy first, then from the victim's territory
+     */
+    private boolean canAttackPlayer(Player attacker, Player victim) {
+        PlayerSession attackerSession = plugin.getSessionManager().getSession(attacker);
+        PlayerSession victimSession = plugin.getSessionManager().getSession(victim);
+        if (attackerSession != null && victimSession != null) {
+            int attackerId = attackerSession.getCountryId();
+            int victimId = victimSession.getCountryId();
+
+            // Fellow citizens and allies are always protected
+            if (attackerId >= 0 && attackerId == victimId) {
+                return false;
+            }
+
+            RelationType relation = plugin.getDiplomacyManager().getRelationType(attackerId, victimId);
+            if (relation == RelationType.AT_WAR) {
+                return true;
+            }
+            if (relation == RelationType.ALLIED) {
+                return false;
+            }
+        }
+
+        Location location = victim.getLocation();
+        Territory territory = plugin.getTerritoryManager().getTerritoryAt(location.getWorld().getName(),
+                location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        return territory == null || territory.allowsPvP() || territory.hasFlag(TerritoryFlag.PVP);
+    }
+
+    /**
+     * Get the player responsible for damage, following projectiles to their shooter
+     */
+    private Player getAttackingPlayer(Entity damager) {
+        if (damager instanceof Player) {
+            return (Player) damager;
+        }
+        if (damager instanceof Projectile && ((Projectile) damager).getShooter() instanceof Player) {
+            return (Player) ((Projectile) damager).getShooter();
+        }
+        return null;
+    }
+}
@@ -3,10 +3,14 @@ package xyz.inv1s1bl3.countries.listeners;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import xyz.inv1s1bl3.countries.CountriesPlugin;
 import xyz.inv1s1bl3.countries.core.country.Country;
+import xyz.inv1s1bl3.countries.core.session.PlayerSession;
 import xyz.inv1s1bl3.countries.utils.ChatUtils;
 
 /**
@@ -20,12 +24,37 @@ public class PlayerListener implements Listener {
         this.plugin = plugin;
     }
     
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        
+        // Resolve country membership off the main thread
+        plugin.getSessionManager().preload(event.getUniqueId());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        // Whitelist, full server or bans from other plugins: the player never joins
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            plugin.getSessionManager().discardPending(event.getPlayer().getUniqueId());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoinEarly(PlayerJoinEvent event) {
+        // Finish the session before other join handlers read it
+        plugin.getSessionManager().openSession(event.getPlayer());
+    }
+    
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
         var player = event.getPlayer();
         
         // Check if player has a country
-        Country country = plugin.getCountryManager().getPlayerCountry(player);
+        PlayerSession session = plugin.getSessionManager().getSession(player);
+        Country country = session.getCountry();
         if (country != null) {
             // Welcome back message
             ChatUtils.sendPrefixedMessage(player, 
@@ -33,7 +62,7 @@ public class PlayerListener implements Listener {
             
             // Check for pending invitations or notifications
             if (!country.getInvitations().isEmpty() && 
-                country.getCitizen(player.getUniqueId()).getRole().canInvite()) {
+                session.getCitizenRole() != null && session.getCitizenRole().canInvite()) {
                 ChatUtils.sendInfo(player, 
                         "Your country has " + country.getInvitations().size() + " pending invitations.");
             }
@@ -43,10 +72,19 @@ public class PlayerListener implements Listener {
                     (country != null ? country.getName() : "None"));
     }
     
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        // Permission plugins may grant different permissions per world
+        plugin.getSessionManager().refreshPermissions(event.getPlayer());
+    }
+    
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
         var player = event.getPlayer();
         
+        // Drop the session, selections, visualizations and cached decisions
+        plugin.getSessionManager().closeSession(player);
+        
         plugin.debug("Player " + player.getName() + " left the server");
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package xyz.inv1s1bl3.countries.map;
+
+import java.awt.Color;
+
+/**
+ * Stable colors for countries on exported maps.
+ */
+public class MapColors {
+
+    /**
+     * Get a stable, well-saturated color for a country name
+     */
+    public static Color forCountry(String countryName) {
+        int hash = countryName.toLowerCase().hashCode();
+        float hue = (hash & 0xFFFF) / 65536.0f;
+        float saturation = 0.55f + ((hash >>> 16) & 0xFF) / 255.0f * 0.3f;
+        float brightness = 0.75f + ((hash >>> 24) & 0x7F) / 127.0f * 0.2f;
+        return Color.getHSBColor(hue, saturation, brightness);
+    }
+
+    /**
+     * Get a country color as an RGB hex string, e.g. #3fa2c8
+     */
+    public static String toHex(Color color) {
+        return String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue());
+    }
+}
@@ -0,0 +1,425 @@
+package xyz.inv1s1bl3.countries.map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.bukkit.scheduler.BukkitRunnable;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.territory.ChunkCoordinate;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
+import xyz.inv1s1bl3.countries.core.territory.TerritoryOutline;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Exports territory and merged country borders as per-world GeoJSON and SVG files.
+ * Only territories flagged dirty by the territory manager are re-traced, and only
+ * the worlds they belong to are rewritten.
+ */
+public class MapExporter {
+
+    private final CountriesPlugin plugin;
+    private final Gson gson;
+    private final Map<String, Feature> territoryFeatures; // Territory name -> exported feature
+    private final Map<String, Feature> countryFeatures; // World + country -> merged feature
+    private final AtomicBoolean running;
+    private volatile boolean fullExport;
+    private BukkitRunnable exportTask;
+
+    public MapExporter(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.gson = new Gson();
+        this.territoryFeatures = new ConcurrentHashMap<>();
+        this.countryFeatures = new ConcurrentHashMap<>();
+        this.running = new AtomicBoolean(false);
+        this.fullExport = true;
+    }
+
+    /**
+     * Start the background export task if enabled
+     */
+    public void start() {
+        if (!plugin.getConfigManager().getConfig().getBoolean("export.enabled", false)) {
+            plugin.debug("Map export is disabled.");
+            return;
+        }
+
+        int interval = Math.max(5, plugin.getConfigManager().getConfig().getInt("export.interval", 60));
+
+        exportTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                exportChanges();
+            }
+        };
+
+        long ticks = interval * 20L;
+        exportTask.runTaskTimerAsynchronously(plugin, 20L, ticks);
+
+        plugin.getLogger().info("Map export enabled with interval: " + interval + " seconds");
+    }
+
+    /**
+     * Stop the background export task
+     */
+    public void stop() {
+        if (exportTask != null) {
+            exportTask.cancel();
+            exportTask = null;
+        }
+    }
+
+    /**
+     * Re-export everything on the next run
+     */
+    public void requestFullExport() {
+        fullExport = true;
+    }
+
+    /**
+     * Rebuild the features of changed territories and rewrite the affected worlds
+     */
+    public void exportChanges() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Set<String> dirty = plugin.getTerritoryManager().drainDirtyTerritories();
+            if (fullExport) {
+                fullExport = false;
+                dirty.addAll(territoryFeatures.keySet());
+                for (Territory territory : plugin.getTerritoryManager().getAllTerritories()) {
+                    dirty.add(territory.getName().toLowerCase());
+                }
+            }
+
+            if (dirty.isEmpty()) {
+                return;
+            }
+
+            Set<String> affectedWorlds = new HashSet<>();
+            Set<String> affectedCountries = new HashSet<>();
+
+            for (String name : dirty) {
+                Feature previous = territoryFeatures.remove(name);
+                if (previous != null) {
+                    affectedWorlds.add(previous.world);
+                    affectedCountries.add(countryKey(previous.world, previous.country));
+                }
+
+                Territory territory = plugin.getTerritoryManager().getTerritory(name);
+                if (territory == null || territory.getChunkCount() == 0) {
+                    continue;
+                }
+
+                territoryFeatures.put(name, buildTerritoryFeature(territory));
+                affectedWorlds.add(territory.getWorldName());
+                affectedCountries.add(countryKey(territory.getWorldName(), territory.getCountryName()));
+            }
+
+            for (String key : affectedCountries) {
+                rebuildCountryFeature(key);
+            }
+
+            File folder = getExportFolder();
+            if (!folder.exists() && !folder.mkdirs()) {
+                plugin.getLogger().warning("Could not create map export folder: " + folder.getPath());
+                return;
+            }
+
+            boolean svg = plugin.getConfigManager().getConfig().getBoolean("export.svg", true);
+            for (String world : affectedWorlds) {
+                writeWorld(folder, world, svg);
+            }
+
+            plugin.debug("Exported map changes for " + dirty.size() + " territories in " +
+                    affectedWorlds.size() + " worlds");
+
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error occurred during map export!", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Get the folder exports are written to
+     */
+    public File getExportFolder() {
+        String folder = plugin.getConfigManager().getConfig().getString("export.folder", "exports");
+        return new File(plugin.getDataFolder(), folder);
+    }
+
+    private Feature buildTerritoryFeature(Territory territory) {
+        Set<ChunkCoordinate> chunks = territory.getChunks();
+
+        JsonObject properties = new JsonObject();
+        properties.addProperty("kind", "territory");
+        properties.addProperty("name", territory.getName());
+        properties.addProperty("country", territory.getCountryName());
+        properties.addProperty("world", territory.getWorldName());
+        properties.addProperty("type", territory.getType().name());
+        properties.addProperty("chunks", chunks.size());
+
+        return new Feature(territory.getWorldName(), territory.getCountryName(), chunks,
+                territory.getOutline(), properties);
+    }
+
+    /**
+     * Merge the chunks of all exported territories of a country in one world
+     */
+    private void rebuildCountryFeature(String key) {
+        String world = null;
+        String country = null;
+        Set<ChunkCoordinate> chunks = new HashSet<>();
+
+        for (Feature feature : territoryFeatures.values()) {
+            if (countryKey(feature.world, feature.country).equals(key)) {
+                world = feature.world;
+                country = feature.country;
+                chunks.addAll(feature.chunks);
+            }
+        }
+
+        if (chunks.isEmpty()) {
+            countryFeatures.remove(key);
+            return;
+        }
+
+        JsonObject properties = new JsonObject();
+        properties.addProperty("kind", "country");
+        properties.addProperty("name", country);
+        properties.addProperty("country", country);
+        properties.addProperty("world", world);
+        properties.addProperty("chunks", chunks.size());
+        properties.addProperty("color", MapColors.toHex(MapColors.forCountry(country)));
+
+        countryFeatures.put(key, new Feature(world, country, chunks,
+                TerritoryOutline.of(chunks).getRings(), properties));
+    }
+
+    private void writeWorld(File folder, String world, boolean svg) throws IOException {
+        List<Feature> countries = new ArrayList<>();
+        List<Feature> territories = new ArrayList<>();
+
+        for (Feature feature : countryFeatures.values()) {
+            if (feature.world.equals(world)) {
+                countries.add(feature);
+            }
+        }
+        for (Feature feature : territoryFeatures.values()) {
+            if (feature.world.equals(world)) {
+                territories.add(feature);
+            }
+        }
+
+        JsonArray features = new JsonArray();
+        for (Feature feature : countries) {
+            features.add(toGeoJson(feature));
+        }
+        for (Feature feature : territories) {
+            features.add(toGeoJson(feature));
+        }
+
+        JsonObject collection = new JsonObject();
+        collection.addProperty("type", "FeatureCollection");
+        collection.add("features", features);
+
+        writeAtomically(new File(folder, world + ".geojson"), gson.toJson(collection));
+
+        if (svg) {
+            writeAtomically(new File(folder, world + ".svg"), toSvg(countries, territories));
+        }
+    }
+
+    private JsonObject toGeoJson(Feature feature) {
+        JsonArray multiPolygon = new JsonArray();
+        for (List<TerritoryOutline.Ring> polygon : groupPolygons(feature.rings)) {
+            JsonArray rings = new JsonArray();
+            for (TerritoryOutline.Ring ring : polygon) {
+                JsonArray coordinates = new JsonArray();
+                for (int i = 0; i <= ring.size(); i++) {
+                    int index = i % ring.size();
+                    JsonArray point = new JsonArray();
+                    point.add(ring.getBlockX(index));
+                    point.add(ring.getBlockZ(index));
+                    coordinates.add(point);
+                }
+                rings.add(coordinates);
+            }
+            multiPolygon.add(rings);
+        }
+
+        JsonObject geometry = new JsonObject();
+        geometry.addProperty("type", "MultiPolygon");
+        geometry.add("coordinates", multiPolygon);
+
+        JsonObject json = new JsonObject();
+        json.addProperty("type", "Feature");
+        json.add("geometry", geometry);
+        json.add("properties", feature.properties);
+        return json;
+    }
+
+    private String toSvg(List<Feature> countries, List<Feature> territories) {
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+        for (Feature feature : countries) {
+            for (TerritoryOutline.Ring ring : feature.rings) {
+                for (int i = 0; i < ring.size(); i++) {
+                    minX = Math.min(minX, ring.getBlockX(i));
+                    minZ = Math.min(minZ, ring.getBlockZ(i));
+                    maxX = Math.max(maxX, ring.getBlockX(i));
+                    maxZ = Math.max(maxZ, ring.getBlockZ(i));
+                }
+            }
+        }
+
+        if (minX > maxX) {
+            minX = minZ = 0;
+            maxX = maxZ = 16;
+        }
+
+        StringBuilder svg = new StringBuilder();
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"")
+                .append(minX - 16).append(' ').append(minZ - 16).append(' ')
+                .append(maxX - minX + 32).append(' ').append(maxZ - minZ + 32).append("\">\n");
+
+        for (Feature feature : countries) {
+            String color = MapColors.toHex(MapColors.forCountry(feature.country));
+            svg.append("  <path class=\"country\" data-name=\"").append(escape(feature.country))
+                    .append("\" fill=\"").append(color).append("\" fill-opacity=\"0.45\" stroke=\"")
+                    .append(color).append("\" stroke-width=\"2\" fill-rule=\"evenodd\" d=\"")
+                    .append(toPath(feature.rings)).append("\"/>\n");
+        }
+
+        for (Feature feature : territories) {
+            svg.append("  <path class=\"territory\" data-name=\"")
+                    .append(escape(feature.properties.get("name").getAsString()))
+                    .append("\" fill=\"none\" stroke=\"#ffffff\" stroke-opacity=\"0.6\" stroke-width=\"1\" d=\"")
+                    .append(toPath(feature.rings)).append("\"/>\n");
+        }
+
+        svg.append("</svg>\n");
+        return svg.toString();
+    }
+
+    private static String toPath(List<TerritoryOutline.Ring> rings) {
+        StringBuilder path = new StringBuilder();
+        for (TerritoryOutline.Ring ring : rings) {
+            for (int i = 0; i < ring.size(); i++) {
+                path.append(i == 0 ? 'M' : 'L')
+                        .append(ring.getBlockX(i)).append(' ').append(ring.getBlockZ(i)).append(' ');
+            }
+            path.append("Z ");
+        }
+        return path.toString().trim();
+    }
+
+    /**
+     * Group rings into polygons, attaching each hole to the smallest outer ring containing it
+     */
+    private static List<List<TerritoryOutline.Ring>> groupPolygons(List<TerritoryOutline.Ring> rings) {
+        List<TerritoryOutline.Ring> outers = new ArrayList<>();
+        List<TerritoryOutline.Ring> holes = new ArrayList<>();
+        for (TerritoryOutline.Ring ring : rings) {
+            (ring.isHole() ? holes : outers).add(ring);
+        }
+
+        Map<TerritoryOutline.Ring, List<TerritoryOutline.Ring>> polygons = new LinkedHashMap<>();
+        for (TerritoryOutline.Ring outer : outers) {
+            List<TerritoryOutline.Ring> polygon = new ArrayList<>();
+            polygon.add(outer);
+            polygons.put(outer, polygon);
+        }
+
+        for (TerritoryOutline.Ring hole : holes) {
+            // Probe just inside the claimed cell bordering the hole's first edge,
+            // which lies on the left of the direction of travel
+            double dx = Integer.signum(hole.getX(1) - hole.getX(0));
+            double dz = Integer.signum(hole.getZ(1) - hole.getZ(0));
+            double probeX = hole.getX(0) + dx * 0.5 - dz * 0.25;
+            double probeZ = hole.getZ(0) + dz * 0.5 + dx * 0.25;
+
+            TerritoryOutline.Ring owner = null;
+            for (TerritoryOutline.Ring outer : outers) {
+                if (contains(outer, probeX, probeZ) && (owner == null || outer.getArea() < owner.getArea())) {
+                    owner = outer;
+                }
+            }
+
+            if (owner != null) {
+                polygons.get(owner).add(hole);
+            }
+        }
+
+        return new ArrayList<>(polygons.values());
+    }
+
+    private static boolean contains(TerritoryOutline.Ring ring, double x, double z) {
+        boolean inside = false;
+        for (int i = 0, j = ring.size() - 1; i < ring.size(); j = i++) {
+            double xi = ring.getX(i), zi = ring.getZ(i);
+            double xj = ring.getX(j), zj = ring.getZ(j);
+            if ((zi > z) != (zj > z) && x < (xj - xi) * (z - zi) / (zj - zi) + xi) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace("\"", "&quot;");
+    }
+
+    private static String countryKey(String world, String country) {
+        return world + ":" + country.toLowerCase();
+    }
+
+    /**
+     * Write to a temporary file first so readers never see a partial export
+     */
+    private static void writeAtomically(File target, String content) throws IOException {
+        Path path = target.toPath();
+        Path temp = path.resolveSibling(target.getName() + ".tmp");
+        Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A cached feature ready to be written
+     */
+    private static final class Feature {
+
+        private final String world;
+        private final String country;
+        private final Set<ChunkCoordinate> chunks;
+        private final List<TerritoryOutline.Ring> rings;
+        private final JsonObject properties;
+
+        private Feature(String world, String country, Set<ChunkCoordinate> chunks,
+                        List<TerritoryOutline.Ring> rings, JsonObject properties) {
+            this.world = world;
+            this.country = country;
+            this.chunks = chunks;
+            this.rings = rings;
+            this.properties = properties;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package xyz.inv1s1bl3.countries.map;
+
+import org.bukkit.scheduler.BukkitRunnable;
+import xyz.inv1s1bl3.countries.CountriesPlugin;
+import xyz.inv1s1bl3.countries.core.territory.ChunkCoordinate;
+import xyz.inv1s1bl3.countries.core.territory.ClaimIndex;
+import xyz.inv1s1bl3.countries.core.territory.Territory;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Renders the claim index into PNG map tiles colored by country.
+ * A tile at zoom 0 covers one 32x32 chunk region (512x512 blocks); each zoom
+ * level out doubles the covered area at the same image size. Only tiles over
+ * regions with claim changes are re-rendered, on a bounded worker pool with a
+ * limited number of tiles in flight so memory stays flat on huge worlds.
+ */
+public class TileRenderer {
+
+    private static final int TILE_SIZE = 512;
+    private static final int REGION_SHIFT = 5; // 32 chunks per zoom 0 tile
+    private static final int MAX_ZOOM = 4; // One pixel per chunk
+
+    private final CountriesPlugin plugin;
+    private final Map<String, Integer> countryColors; // Country name -> ARGB
+    private final AtomicBoolean running;
+    private volatile boolean fullRender;
+    private ExecutorService workers;
+    private BukkitRunnable renderTask;
+
+    public TileRenderer(CountriesPlugin plugin) {
+        this.plugin = plugin;
+        this.countryColors = new ConcurrentHashMap<>();
+        this.running = new AtomicBoolean(false);
+        this.fullRender = true;
+    }
+
+    /**
+     * Start the background render task if enabled
+     */
+    public void start() {
+        if (!plugin.getConfigManager().getConfig().getBoolean("tiles.enabled", false)) {
+            plugin.debug("Tile rendering is disabled.");
+            return;
+        }
+
+        int threads = Math.max(1, plugin.getConfigManager().getConfig().getInt("tiles.threads", 2));
+        int interval = Math.max(5, plugin.getConfigManager().getConfig().getInt("tiles.interval", 60));
+
+        AtomicInteger threadId = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Countries-TileRenderer-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+        renderTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                renderChanges();
+            }
+        };
+
+        long ticks = interval * 20L;
+        renderTask.runTaskTimerAsynchronously(plugin, 40L, ticks);
+
+        plugin.getLogger().info("Tile rendering enabled with " + threads + " threads, interval: " + interval + " seconds");
+    }
+
+    /**
+     * Stop the render task and worker pool
+     */
+    public void stop() {
+        if (renderTask != null) {
+            renderTask.cancel();
+            renderTask = null;
+        }
+
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+    }
+
+    /**
+     * Re-render every claimed tile on the next run
+     */
+    public void requestFullRender() {
+        fullRender = true;
+    }
+
+    /**
+     * Render all tiles over regions that changed since the last run
+     */
+    public void renderChanges() {
+        ExecutorService pool = workers;
+        if (pool == null || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Map<String, Set<Long>> dirtyRegions = plugin.getTerritoryManager().drainDirtyRegions();
+            if (fullRender) {
+                fullRender = false;
+                addAllClaimedRegions(dirtyRegions);
+            }
+
+            if (dirtyRegions.isEmpty()) {
+                return;
+            }
+
+            int maxZoom = Math.max(0, Math.min(MAX_ZOOM, plugin.getConfigManager().getConfig().getInt("tiles.zoom-levels", 4) - 1));
+            int threads = Math.max(1, plugin.getConfigManager().getConfig().getInt("tiles.threads", 2));
+            int maxInFlight = threads * 2;
+            Semaphore inFlight = new Semaphore(maxInFlight);
+            int rendered = 0;
+
+            for (Map.Entry<String, Set<Long>> entry : dirtyRegions.entrySet()) {
+                String world = entry.getKey();
+
+                for (int zoom = 0; zoom <= maxZoom; zoom++) {
+                    Set<Long> tiles = new HashSet<>();
+                    for (long region : entry.getValue()) {
+                        tiles.add(ChunkCoordinate.toKey(ChunkCoordinate.keyX(region) >> zoom,
+                                ChunkCoordinate.keyZ(region) >> zoom));
+                    }
+
+                    for (long tile : tiles) {
+                        int tileX = ChunkCoordinate.keyX(tile);
+                        int tileZ = ChunkCoordinate.keyZ(tile);
+                        int tileZoom = zoom;
+
+                        // Bound queued tiles so a large backlog never piles up images
+                        inFlight.acquire();
+                        pool.execute(() -> {
+                            try {
+                                renderTile(world, tileZoom, tileX, tileZ);
+                            } catch (Exception e) {
+                                plugin.getLogger().log(Level.WARNING, "Error rendering tile " + world + "/" +
+                                        tileZoom + "/" + tileX + "_" + tileZ, e);
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                        rendered++;
+                    }
+                }
+            }
+
+            // Wait for the last tiles to finish before allowing the next run
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+
+            plugin.debug("Rendered " + rendered + " map tiles");
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error occurred during tile rendering!", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Get the folder tiles are written to
+     */
+    public File getTileFolder() {
+        String folder = plugin.getConfigManager().getConfig().getString("tiles.folder", "tiles");
+        return new File(plugin.getDataFolder(), folder);
+    }
+
+    private void addAllClaimedRegions(Map<String, Set<Long>> dirtyRegions) {
+        ClaimIndex claimIndex = plugin.getTerritoryManager().getClaimIndex();
+        Set<String> claimedWorlds = new HashSet<>();
+        for (Territory territory : plugin.getTerritoryManager().getAllTerritories()) {
+            claimedWorlds.add(territory.getWorldName());
+        }
+
+        for (String world : claimedWorlds) {
+            Set<Long> regions = dirtyRegions.computeIfAbsent(world, k -> new HashSet<>());
+            claimIndex.forEach(world, (key, owner) -> regions.add(ChunkCoordinate.toKey(
+                    ChunkCoordinate.keyX(key) >> REGION_SHIFT, ChunkCoordinate.keyZ(key) >> REGION_SHIFT)));
+        }
+
+        // Also revisit tiles already on disk so stale ones get removed
+        File[] worlds = getTileFolder().listFiles(File::isDirectory);
+        if (worlds == null) {
+            return;
+        }
+
+        for (File world : worlds) {
+            File[] tiles = new File(world, "0").listFiles((dir, name) -> name.endsWith(".png"));
+            if (tiles == null) {
+                continue;
+            }
+
+            Set<Long> regions = dirtyRegions.computeIfAbsent(world.getName(), k -> new HashSet<>());
+            for (File tile : tiles) {
+                String[] parts = tile.getName().replace(".png", "").split("_");
+                try {
+                    regions.add(ChunkCoordinate.toKey(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException ignored) {
+                    // Not one of ours
+                }
+            }
+        }
+    }
+
+    /**
+     * Render a single tile, deleting it when no claims remain under it
+     */
+    private void renderTile(String world, int zoom, int tileX, int tileZ) throws IOException {
+        ClaimIndex claimIndex = plugin.getTerritoryManager().getClaimIndex();
+        File target = new File(getTileFolder(), world + File.separator + zoom + File.separator + tileX + "_" + tileZ + ".png");
+
+        int chunksPerSide = 1 << (REGION_SHIFT + zoom);
+        int minChunkX = tileX * chunksPerSide;
+        int minChunkZ = tileZ * chunksPerSide;
+        int pixelsPerChunk = TILE_SIZE / chunksPerSide;
+
+        BufferedImage image = null;
+        int[] row = new int[TILE_SIZE];
+
+        for (int dz = 0; dz < chunksPerSide; dz++) {
+            int pixelZ = dz * pixelsPerChunk;
+            int pixelZEnd = pixelZ + pixelsPerChunk;
+            boolean rowDrawn = false;
+
+            for (int dx = 0; dx < chunksPerSide; dx++) {
+                Territory territory = claimIndex.get(world, minChunkX + dx, minChunkZ + dz);
+                if (territory == null) {
+                    continue;
+                }
+
+                if (image == null) {
+                    image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+                }
+
+                int pixelX = dx * pixelsPerChunk;
+                int pixelXEnd = pixelX + pixelsPerChunk;
+                int color = getColor(territory.getCountryName());
+                Arrays.fill(row, pixelX, pixelXEnd, color);
+
+                // Darken the edges where a chunk borders a different territory
+                if (pixelsPerChunk >= 4) {
+                    int border = darken(color);
+                    if (claimIndex.get(world, minChunkX + dx - 1, minChunkZ + dz) != territory) {
+                        row[pixelX] = border;
+                    }
+                    if (claimIndex.get(world, minChunkX + dx + 1, minChunkZ + dz) != territory) {
+                        row[pixelXEnd - 1] = border;
+                    }
+                }
+                rowDrawn = true;
+            }
+
+            if (!rowDrawn) {
+                continue;
+            }
+
+            for (int pixelRow = pixelZ; pixelRow < pixelZEnd; pixelRow++) {
+                image.setRGB(0, pixelRow, TILE_SIZE, 1, row, 0, TILE_SIZE);
+            }
+
+            if (pixelsPerChunk >= 4) {
+                drawHorizontalBorders(image, claimIndex, world, minChunkX, minChunkZ + dz, chunksPerSide,
+                        pixelsPerChunk, pixelZ, pixelZEnd - 1);
+            }
+            Arrays.fill(row, 0);
+        }
+
+        if (image == null) {
+            Files.deleteIfExists(target.toPath());
+            return;
+        }
+
+        File folder = target.getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Could not create tile folder: " + folder.getPath());
+        }
+
+        File temp = new File(folder, target.getName() + ".tmp");
+        ImageIO.write(image, "png", temp);
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void drawHorizontalBorders(BufferedImage image, ClaimIndex claimIndex, String world, int minChunkX,
+                                       int chunkZ, int chunksPerSide, int pixelsPerChunk, int topRow, int bottomRow) {
+        for (int dx = 0; dx < chunksPerSide; dx++) {
+            Territory territory = claimIndex.get(world, minChunkX + dx, chunkZ);
+            if (territory == null) {
+                continue;
+            }
+
+            int pixelX = dx * pixelsPerChunk;
+            int pixelXEnd = pixelX + pixelsPerChunk;
+            int border = darken(getColor(territory.getCountryName()));
+
+            boolean top = claimIndex.get(world, minChunkX + dx, chunkZ - 1) != territory;
+            boolean bottom = claimIndex.get(world, minChunkX + dx, chunkZ + 1) != territory;
+            for (int x = pixelX; x < pixelXEnd; x++) {
+                if (top) {
+                    image.setRGB(x, topRow, border);
+                }
+                if (bottom) {
+                    image.setRGB(x, bottomRow, border);
+                }
+            }
+        }
+    }
+
+    private int getColor(String countryName) {
+        return countryColors.computeIfAbsent(countryName.toLowerCase(), name -> {
+            Color color = MapColors.forCountry(name);
+            return (0xB0 << 24) | (color.getRGB() & 0xFFFFFF);
+        });
+    }
+
+    private static int darken(int argb) {
+        int r = ((argb >> 16) & 0xFF) * 3 / 5;
+        int g = ((argb >> 8) & 0xFF) * 3 / 5;
+        int b = (argb & 0xFF) * 3 / 5;
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+}
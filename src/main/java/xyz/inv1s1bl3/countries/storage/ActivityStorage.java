@@ -0,0 +1,97 @@
+package xyz.inv1s1bl3.countries.storage;
+
+import xyz.inv1s1bl3.countries.core.territory.ActivityHeatmap;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Handles database operations for chunk activity scores.
+ */
+public class ActivityStorage {
+
+    private final DataManager dataManager;
+
+    public ActivityStorage(DataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+
+    /**
+     * Write current scores and delete the ones that decayed away, in one transaction
+     */
+    public void saveScores(List<ActivityHeatmap.ActivityScore> scores, List<ActivityHeatmap.ActivityScore> expired) {
+        if (scores.isEmpty() && expired.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataManager.getConnection()) {
+            connection.setAutoCommit(false);
+
+            String upsert = """
+                INSERT OR REPLACE INTO chunk_activity (world_name, chunk_x, chunk_z, score, updated_at)
+                VALUES (?, ?, ?, ?, ?)
+            """;
+            String delete = "DELETE FROM chunk_activity WHERE world_name = ? AND chunk_x = ? AND chunk_z = ?";
+            long now = System.currentTimeMillis();
+
+            try (PreparedStatement upsertStmt = connection.prepareStatement(upsert);
+                 PreparedStatement deleteStmt = connection.prepareStatement(delete)) {
+
+                for (ActivityHeatmap.ActivityScore score : scores) {
+                    upsertStmt.setString(1, score.getWorldName());
+                    upsertStmt.setInt(2, score.getChunkX());
+                    upsertStmt.setInt(3, score.getChunkZ());
+                    upsertStmt.setDouble(4, score.getScore());
+                    upsertStmt.setLong(5, now);
+                    upsertStmt.addBatch();
+                }
+
+                for (ActivityHeatmap.ActivityScore score : expired) {
+                    deleteStmt.setString(1, score.getWorldName());
+                    deleteStmt.setInt(2, score.getChunkX());
+                    deleteStmt.setInt(3, score.getChunkZ());
+                    deleteStmt.addBatch();
+                }
+
+                upsertStmt.executeBatch();
+                deleteStmt.executeBatch();
+                connection.commit();
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+            dataManager.getPlugin().debug("Saved " + scores.size() + " chunk activity scores, removed " + expired.size());
+
+        } catch (SQLException e) {
+            dataManager.getPlugin().getLogger().log(Level.SEVERE, "Error saving chunk activity scores", e);
+        }
+    }
+
+    /**
+     * Load all stored scores
+     */
+    public void loadScores(ActivityHeatmap.ScoreConsumer consumer) {
+        String sql = "SELECT world_name, chunk_x, chunk_z, score FROM chunk_activity";
+
+        try (Connection connection = dataManager.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                consumer.accept(rs.getString("world_name"), rs.getInt("chunk_x"),
+                        rs.getInt("chunk_z"), rs.getDouble("score"));
+            }
+
+        } catch (SQLException e) {
+            dataManager.getPlugin().getLogger().log(Level.SEVERE, "Error loading chunk activity scores", e);
+        }
+    }
+}
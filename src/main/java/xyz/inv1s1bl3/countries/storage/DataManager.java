@@ -28,6 +28,7 @@ public class DataManager {
     private HikariDataSource dataSource;
     private CountryStorage countryStorage;
     private TerritoryStorage territoryStorage;
+    private ActivityStorage activityStorage;
     
     public DataManager(CountriesPlugin plugin) {
         this.plugin = plugin;
@@ -202,6 +203,18 @@ public class DataManager {
                 )
             """);
             
+            // Chunk activity table
+            stmt.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS chunk_activity (
+                    world_name TEXT NOT NULL,
+                    chunk_x INTEGER NOT NULL,
+                    chunk_z INTEGER NOT NULL,
+                    score REAL NOT NULL,
+                    updated_at INTEGER NOT NULL,
+                    PRIMARY KEY (world_name, chunk_x, chunk_z)
+                )
+            """);
+            
             // Create indexes for better performance
             stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_citizens_country ON citizens (country_id)");
             stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_citizens_player ON citizens (player_uuid)");
@@ -226,6 +239,7 @@ public class DataManager {
     private void initializeStorageManagers() {
         countryStorage = new CountryStorage(this);
         territoryStorage = new TerritoryStorage(this);
+        activityStorage = new ActivityStorage(this);
     }
     
     /**
@@ -322,6 +336,10 @@ public class DataManager {
         return territoryStorage;
     }
     
+    public ActivityStorage getActivityStorage() {
+        return activityStorage;
+    }
+    
     public CountriesPlugin getPlugin() {
         return plugin;
     }
@@ -4,7 +4,9 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import xyz.inv1s1bl3.countries.core.territory.ChunkCoordinate;
 import xyz.inv1s1bl3.countries.core.territory.Territory;
+import xyz.inv1s1bl3.countries.core.territory.TerritoryRole;
 import xyz.inv1s1bl3.countries.core.territory.TerritoryType;
+import xyz.inv1s1bl3.countries.core.territory.VisitorAnalytics;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -58,7 +60,15 @@ public class TerritoryStorage {
                 data.addProperty("allowPvP", territory.allowsPvP());
                 data.addProperty("upkeepCost", territory.getUpkeepCost());
                 data.addProperty("lastActive", territory.getLastActive());
-                data.addProperty("totalVisitors", territory.getTotalVisitors());
+                data.addProperty("visitors", territory.getVisitorAnalytics().serialize());
+                
+                // Serialize flags as bitmasks
+                data.addProperty("flags", territory.getFlagMask());
+                JsonObject roleFlags = new JsonObject();
+                for (TerritoryRole role : TerritoryRole.values()) {
+                    roleFlags.addProperty(role.name(), territory.getRoleFlagMask(role));
+                }
+                data.add("roleFlags", roleFlags);
                 
                 // Serialize allowed players
                 JsonArray allowedPlayers = new JsonArray();
@@ -275,6 +285,22 @@ public class TerritoryStorage {
                 if (data.has("upkeepCost")) {
                     territory.setUpkeepCost(data.get("upkeepCost").getAsDouble());
                 }
+                if (data.has("visitors")) {
+                    territory.setVisitorAnalytics(VisitorAnalytics.deserialize(data.get("visitors").getAsString()));
+                }
+                
+                // Load flag bitmasks
+                if (data.has("flags")) {
+                    territory.setFlagMask(data.get("flags").getAsInt());
+                }
+                if (data.has("roleFlags")) {
+                    JsonObject roleFlags = data.getAsJsonObject("roleFlags");
+                    for (TerritoryRole role : TerritoryRole.values()) {
+                        if (roleFlags.has(role.name())) {
+                            territory.setRoleFlagMask(role, roleFlags.get(role.name()).getAsInt());
+                        }
+                    }
+                }
                 
                 // Load allowed players
                 if (data.has("allowedPlayers")) {
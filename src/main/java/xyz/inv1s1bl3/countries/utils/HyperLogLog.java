@@ -0,0 +1,148 @@
+package xyz.inv1s1bl3.countries.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lock-free HyperLogLog cardinality sketch with 1024 registers (~3% error).
+ * Registers are 6 bits wide and packed five to an int, so a sketch takes
+ * about 820 bytes and updates are a single CAS on one word.
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 10;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final int PER_WORD = 5;
+    private static final int WORDS = (REGISTERS + PER_WORD - 1) / PER_WORD;
+    private static final int REGISTER_MASK = 0x3F;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final AtomicIntegerArray words;
+
+    public HyperLogLog() {
+        this.words = new AtomicIntegerArray(WORDS);
+    }
+
+    /**
+     * Add a player to the sketch
+     */
+    public void offer(UUID uuid) {
+        offerHash(hash(uuid));
+    }
+
+    /**
+     * Add a pre-hashed value to the sketch
+     */
+    public void offerHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+        int word = index / PER_WORD;
+        int shift = (index % PER_WORD) * 6;
+
+        while (true) {
+            int current = words.get(word);
+            if (((current >>> shift) & REGISTER_MASK) >= rank) {
+                return;
+            }
+
+            int updated = (current & ~(REGISTER_MASK << shift)) | (rank << shift);
+            if (words.compareAndSet(word, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Estimate the number of distinct values offered
+     */
+    public long estimate() {
+        return estimate(this);
+    }
+
+    /**
+     * Estimate the number of distinct values offered to any of the given sketches
+     */
+    public static long estimate(HyperLogLog... sketches) {
+        double sum = 0;
+        int zeros = 0;
+
+        for (int index = 0; index < REGISTERS; index++) {
+            int max = 0;
+            for (HyperLogLog sketch : sketches) {
+                if (sketch != null) {
+                    max = Math.max(max, sketch.get(index));
+                }
+            }
+
+            sum += 1.0 / (1L << max);
+            if (max == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            // Linear counting is more accurate for small cardinalities
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Check whether anything was offered yet
+     */
+    public boolean isEmpty() {
+        for (int i = 0; i < WORDS; i++) {
+            if (words.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Serialize the packed registers
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(WORDS * 4);
+        for (int i = 0; i < WORDS; i++) {
+            buffer.putInt(words.get(i));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Restore a sketch from serialized registers; returns an empty sketch for invalid input
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes == null || bytes.length != WORDS * 4) {
+            return sketch;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < WORDS; i++) {
+            sketch.words.set(i, buffer.getInt());
+        }
+        return sketch;
+    }
+
+    private int get(int index) {
+        return (words.get(index / PER_WORD) >>> ((index % PER_WORD) * 6)) & REGISTER_MASK;
+    }
+
+    /**
+     * 64-bit mix of a UUID so register index and rank are well distributed
+     */
+    private static long hash(UUID uuid) {
+        long h = uuid.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ uuid.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}